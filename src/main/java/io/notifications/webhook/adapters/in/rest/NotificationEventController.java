@@ -3,18 +3,29 @@ package io.notifications.webhook.adapters.in.rest;
 import io.notifications.webhook.adapters.in.rest.dto.NotificationEventResponse;
 import io.notifications.webhook.adapters.in.rest.dto.NotificationEventsResponse;
 import io.notifications.webhook.adapters.in.rest.dto.ReplayResponse;
+import io.notifications.webhook.adapters.in.rest.mapper.NotificationEventCursorCodec;
 import io.notifications.webhook.adapters.in.rest.mapper.NotificationEventRestMapper;
 import io.notifications.webhook.domain.model.ClientId;
 import io.notifications.webhook.domain.model.DeliveryStatus;
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventCursor;
 import io.notifications.webhook.domain.model.NotificationEventFilter;
 import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.model.NotificationEventPage;
 import io.notifications.webhook.domain.ports.in.GetNotificationEventUseCase;
 import io.notifications.webhook.domain.ports.in.QueryNotificationEventsUseCase;
 import io.notifications.webhook.domain.ports.in.ReplayNotificationEventUseCase;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -35,8 +46,17 @@ import java.util.Optional;
  * Local dates are interpreted as UTC day boundaries: fromInclusive at 00:00:00Z and
  * toInclusive at 23:59:59.999999999Z.
  *
- * Replay supports an optional Idempotency-Key header to prevent duplicate deliveries for the same
- * event_id and client_id when the same key is reused.
+ * Listing is paged when limit or cursor is given: events are returned in (delivery_date, event_id) order and
+ * nextCursor, when present, is passed back as cursor to fetch the following page. Without either parameter
+ * the full result is returned, as before.
+ *
+ * The same listing can be exported as NDJSON from /notification_events/export: events are read page by
+ * page and written to the response stream one line each, so memory per request stays constant regardless
+ * of the client's history. A client disconnect fails the next write and stops the export.
+ *
+ * Replay validates the request and answers 202 Accepted once the delivery has been handed to the dispatcher;
+ * the webhook itself is sent in the background. It supports an optional Idempotency-Key header to prevent
+ * duplicate deliveries for the same event_id and client_id when the same key is reused.
  *
  * Exception translation is handled centrally by RestExceptionHandler.
  */
@@ -45,19 +65,24 @@ import java.util.Optional;
 public final class NotificationEventController {
 
     private static final long ONE_NANOSECOND = 1L;
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+    private static final int EXPORT_PAGE_LIMIT = 500;
 
     private final QueryNotificationEventsUseCase queryNotificationEventsUseCase;
     private final GetNotificationEventUseCase getNotificationEventUseCase;
     private final ReplayNotificationEventUseCase replayNotificationEventUseCase;
+    private final ObjectWriter eventWriter;
 
     public NotificationEventController(
             QueryNotificationEventsUseCase queryNotificationEventsUseCase,
             GetNotificationEventUseCase getNotificationEventUseCase,
-            ReplayNotificationEventUseCase replayNotificationEventUseCase
+            ReplayNotificationEventUseCase replayNotificationEventUseCase,
+            ObjectMapper objectMapper
     ) {
         this.queryNotificationEventsUseCase = Objects.requireNonNull(queryNotificationEventsUseCase);
         this.getNotificationEventUseCase = Objects.requireNonNull(getNotificationEventUseCase);
         this.replayNotificationEventUseCase = Objects.requireNonNull(replayNotificationEventUseCase);
+        this.eventWriter = Objects.requireNonNull(objectMapper).writerFor(NotificationEventResponse.class);
     }
 
     @GetMapping
@@ -65,7 +90,9 @@ public final class NotificationEventController {
             @RequestParam("client_id") @NotBlank String clientId,
             @RequestParam(value = "delivery_status", required = false) String deliveryStatus,
             @RequestParam(value = "date_from", required = false) String dateFrom,
-            @RequestParam(value = "date_to", required = false) String dateTo
+            @RequestParam(value = "date_to", required = false) String dateTo,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
         DeliveryStatus parsedStatus = parseDeliveryStatus(deliveryStatus);
 
@@ -74,6 +101,22 @@ public final class NotificationEventController {
 
         NotificationEventFilter filter = buildFilter(fromInclusive, toInclusive, parsedStatus);
 
+        if (limit != null || cursor != null) {
+            QueryNotificationEventsUseCase.PageQuery pageQuery = new QueryNotificationEventsUseCase.PageQuery(
+                    ClientId.of(clientId),
+                    filter,
+                    Optional.ofNullable(cursor).map(NotificationEventCursorCodec::decode),
+                    limit == null ? DEFAULT_PAGE_LIMIT : limit
+            );
+
+            NotificationEventPage page = queryNotificationEventsUseCase.queryPage(pageQuery);
+
+            return NotificationEventsResponse.of(
+                    NotificationEventRestMapper.toResponseList(page.events()),
+                    page.nextCursor().map(NotificationEventCursorCodec::encode).orElse(null)
+            );
+        }
+
         QueryNotificationEventsUseCase.Query query = new QueryNotificationEventsUseCase.Query(
                 ClientId.of(clientId),
                 filter
@@ -84,6 +127,27 @@ public final class NotificationEventController {
         return NotificationEventsResponse.of(NotificationEventRestMapper.toResponseList(events));
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam("client_id") @NotBlank String clientId,
+            @RequestParam(value = "delivery_status", required = false) String deliveryStatus,
+            @RequestParam(value = "date_from", required = false) String dateFrom,
+            @RequestParam(value = "date_to", required = false) String dateTo
+    ) {
+        ClientId client = ClientId.of(clientId);
+        NotificationEventFilter filter = buildFilter(
+                parseFromInclusive(dateFrom),
+                parseToInclusive(dateTo),
+                parseDeliveryStatus(deliveryStatus)
+        );
+
+        StreamingResponseBody body = outputStream -> writeNdjson(client, filter, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/{notification_event_id}")
     public NotificationEventResponse getById(
             @RequestParam("client_id") @NotBlank String clientId,
@@ -99,7 +163,7 @@ public final class NotificationEventController {
     }
 
     @PostMapping("/{notification_event_id}/replay")
-    public ReplayResponse replay(
+    public ResponseEntity<ReplayResponse> replay(
             @RequestParam("client_id") @NotBlank String clientId,
             @PathVariable("notification_event_id") String notificationEventId,
             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
@@ -115,8 +179,29 @@ public final class NotificationEventController {
         Instant processedAt = result.requestedAt().orElseGet(Instant::now);
 
         return result.accepted()
-                ? ReplayResponse.accepted(notificationEventId, processedAt)
-                : ReplayResponse.rejected(notificationEventId, processedAt);
+                ? ResponseEntity.status(HttpStatus.ACCEPTED).body(ReplayResponse.accepted(notificationEventId, processedAt))
+                : ResponseEntity.ok(ReplayResponse.rejected(notificationEventId, processedAt));
+    }
+
+    /*
+     * Writes every matching event as one JSON line, fetching EXPORT_PAGE_LIMIT events at a time.
+     * The stream is flushed after each page so the client receives data while the export is running.
+     */
+    private void writeNdjson(ClientId clientId, NotificationEventFilter filter, OutputStream outputStream) throws IOException {
+        Optional<NotificationEventCursor> after = Optional.empty();
+        do {
+            NotificationEventPage page = queryNotificationEventsUseCase.queryPage(
+                    new QueryNotificationEventsUseCase.PageQuery(clientId, filter, after, EXPORT_PAGE_LIMIT)
+            );
+
+            for (NotificationEvent event : page.events()) {
+                outputStream.write(eventWriter.writeValueAsBytes(NotificationEventRestMapper.toResponse(event)));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+
+            after = page.nextCursor();
+        } while (after.isPresent());
     }
 
     private static NotificationEventFilter buildFilter(
@@ -1,5 +1,6 @@
 package io.notifications.webhook.adapters.in.rest;
 
+import io.notifications.webhook.domain.model.DeliveryQueueFull;
 import io.notifications.webhook.domain.model.NotificationEventNotFound;
 import io.notifications.webhook.domain.model.ReplayNotAllowed;
 import jakarta.validation.ConstraintViolation;
@@ -42,6 +43,15 @@ public final class RestExceptionHandler {
         return pd;
     }
 
+    @ExceptionHandler(DeliveryQueueFull.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ProblemDetail handleDeliveryQueueFull(DeliveryQueueFull ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        pd.setTitle("Delivery queue full");
+        pd.setDetail(ex.getMessage());
+        return pd;
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ProblemDetail handleBadRequest(IllegalArgumentException ex) {
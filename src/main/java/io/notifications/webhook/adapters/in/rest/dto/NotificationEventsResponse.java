@@ -1,5 +1,7 @@
 package io.notifications.webhook.adapters.in.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 import java.util.Objects;
 
@@ -9,46 +11,66 @@ import java.util.Objects;
  *
  * It is a pure transport model and must not contain domain logic. The class is immutable and
  * enforces basic invariants to guarantee a consistent API contract.
+ *
+ * nextCursor is set on paged responses when more events are available; it is null otherwise and then left
+ * out of the JSON, so unpaged responses keep their original shape.
  */
 public final class NotificationEventsResponse {
 
     private final List<NotificationEventResponse> events;
+    private final String nextCursor;
 
-    private NotificationEventsResponse(List<NotificationEventResponse> events) {
+    private NotificationEventsResponse(List<NotificationEventResponse> events, String nextCursor) {
         if (events == null) {
             throw new IllegalArgumentException("events must not be null");
         }
         this.events = List.copyOf(events);
+        this.nextCursor = nextCursor;
     }
 
     public static NotificationEventsResponse of(List<NotificationEventResponse> events) {
-        return new NotificationEventsResponse(events);
+        return new NotificationEventsResponse(events, null);
+    }
+
+    public static NotificationEventsResponse of(List<NotificationEventResponse> events, String nextCursor) {
+        return new NotificationEventsResponse(events, nextCursor);
     }
 
     public List<NotificationEventResponse> events() {
         return events;
     }
 
+    public String nextCursor() {
+        return nextCursor;
+    }
+
     public List<NotificationEventResponse> getEvents() {
         return events;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof NotificationEventsResponse that)) return false;
-        return Objects.equals(events, that.events);
+        return Objects.equals(events, that.events)
+                && Objects.equals(nextCursor, that.nextCursor);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(events);
+        return Objects.hash(events, nextCursor);
     }
 
     @Override
     public String toString() {
         return "NotificationEventsResponse{" +
                 "events=" + events +
+                ", nextCursor=" + nextCursor +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package io.notifications.webhook.adapters.in.rest.mapper;
+
+import io.notifications.webhook.domain.model.NotificationEventCursor;
+import io.notifications.webhook.domain.model.NotificationEventId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/*
+ * NotificationEventCursorCodec converts domain cursors to and from the opaque tokens exposed by the
+ * REST API as nextCursor / cursor.
+ *
+ * The token is the base64url encoding of "epochSecond:nano:eventId". Clients must treat it as opaque;
+ * the encoding may change between versions.
+ */
+public final class NotificationEventCursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private NotificationEventCursorCodec() {
+    }
+
+    public static String encode(NotificationEventCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor must not be null");
+
+        String raw = cursor.deliveryDate().getEpochSecond()
+                + ":" + cursor.deliveryDate().getNano()
+                + ":" + cursor.eventId().value();
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationEventCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("cursor must not be blank");
+        }
+
+        try {
+            String raw = new String(DECODER.decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Instant deliveryDate = Instant.ofEpochSecond(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+            return NotificationEventCursor.of(deliveryDate, NotificationEventId.of(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
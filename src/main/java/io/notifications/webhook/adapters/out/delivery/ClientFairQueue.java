@@ -0,0 +1,218 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.domain.model.ClientId;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * ClientFairQueue is a bounded multi-tenant queue that hands out jobs by deficit round robin (DRR).
+ *
+ * Every client has its own FIFO lane. Lanes with waiting jobs form a ring; when the ring reaches a lane, the
+ * lane is credited with its weight and may start that many jobs before the next lane's turn. A lane that has
+ * reached its concurrency cap is skipped until one of its jobs completes, so a client flooding the queue only
+ * ever occupies its own share of the workers, and a client with a single job waits at most one round.
+ *
+ * Each started job must be followed by complete(clientId). The total and per-client capacities are enforced
+ * on offer.
+ *
+ * Metrics (per client):
+ * - webhook_delivery_client_queue_depth{client_id}
+ * - webhook_delivery_client_queue_wait_seconds{client_id}
+ */
+public final class ClientFairQueue<T> {
+
+    private final ClientFairnessPolicy policy;
+    private final int capacity;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<ClientId, Lane<T>> lanes = new HashMap<>();
+    private final ArrayDeque<Lane<T>> ring = new ArrayDeque<>();
+    private int size;
+
+    public ClientFairQueue(ClientFairnessPolicy policy, int capacity, MeterRegistry meterRegistry) {
+        this.policy = Objects.requireNonNull(policy, "policy must not be null");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+    }
+
+    /*
+     * Adds a job to the client's lane. Returns false if the queue or the client's lane is full.
+     */
+    public boolean offer(ClientId clientId, T job) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(job, "job must not be null");
+
+        lock.lock();
+        try {
+            Lane<T> lane = lanes.computeIfAbsent(clientId, this::newLane);
+            if (size >= capacity || lane.jobs.size() >= policy.queueCapacity()) {
+                return false;
+            }
+            lane.jobs.addLast(new Waiting<>(job, System.nanoTime()));
+            size++;
+            if (!lane.inRing) {
+                lane.inRing = true;
+                ring.addLast(lane);
+            }
+            available.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Waits up to the timeout for a job whose client is below its concurrency cap; returns null on timeout.
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNs = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                T job = next();
+                if (job != null) {
+                    return job;
+                }
+                if (remainingNs <= 0) {
+                    return null;
+                }
+                remainingNs = available.awaitNanos(remainingNs);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void complete(ClientId clientId) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        lock.lock();
+        try {
+            Lane<T> lane = lanes.get(clientId);
+            if (lane != null && lane.inFlight > 0) {
+                lane.inFlight--;
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Removes every waiting job and returns how many were dropped.
+     */
+    public int clear() {
+        lock.lock();
+        try {
+            int dropped = size;
+            for (Lane<T> lane : lanes.values()) {
+                lane.jobs.clear();
+                lane.deficit = 0;
+                lane.inRing = false;
+            }
+            ring.clear();
+            size = 0;
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * One DRR step over the ring; called with the lock held. The lane at the head keeps its turn while it has
+     * credit, jobs and spare concurrency.
+     */
+    private T next() {
+        int lanesToVisit = ring.size();
+        while (lanesToVisit-- > 0) {
+            Lane<T> lane = ring.peekFirst();
+            if (lane.inFlight < lane.maxConcurrency) {
+                if (lane.deficit <= 0) {
+                    lane.deficit += lane.weight;
+                }
+                Waiting<T> waiting = lane.jobs.pollFirst();
+                lane.deficit--;
+                lane.inFlight++;
+                size--;
+                lane.waitTimer.record(System.nanoTime() - waiting.enqueuedAtNs(), TimeUnit.NANOSECONDS);
+
+                if (lane.jobs.isEmpty()) {
+                    ring.pollFirst();
+                    lane.inRing = false;
+                    lane.deficit = 0;
+                } else if (lane.deficit <= 0) {
+                    ring.addLast(ring.pollFirst());
+                }
+                return waiting.job();
+            }
+
+            ring.addLast(ring.pollFirst());
+        }
+        return null;
+    }
+
+    private Lane<T> newLane(ClientId clientId) {
+        Lane<T> lane = new Lane<>(
+                policy.weightOf(clientId),
+                policy.maxConcurrencyOf(clientId),
+                Timer.builder("webhook_delivery_client_queue_wait_seconds")
+                        .tag("client_id", clientId.value())
+                        .register(meterRegistry)
+        );
+        Gauge.builder("webhook_delivery_client_queue_depth", this, queue -> queue.depthOf(lane))
+                .tag("client_id", clientId.value())
+                .register(meterRegistry);
+        return lane;
+    }
+
+    private int depthOf(Lane<T> lane) {
+        lock.lock();
+        try {
+            return lane.jobs.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Waiting<T>(T job, long enqueuedAtNs) {
+    }
+
+    private static final class Lane<T> {
+
+        private final int weight;
+        private final int maxConcurrency;
+        private final Timer waitTimer;
+        private final ArrayDeque<Waiting<T>> jobs = new ArrayDeque<>();
+        private int deficit;
+        private int inFlight;
+        private boolean inRing;
+
+        private Lane(int weight, int maxConcurrency, Timer waitTimer) {
+            this.weight = weight;
+            this.maxConcurrency = maxConcurrency;
+            this.waitTimer = waitTimer;
+        }
+    }
+}
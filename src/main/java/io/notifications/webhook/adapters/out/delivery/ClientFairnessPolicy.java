@@ -0,0 +1,72 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.notifications.webhook.domain.model.ClientId;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * ClientFairnessPolicy holds the per-client scheduling limits used by ClientFairQueue.
+ *
+ * weight is the number of jobs a client may start per round-robin round; maxConcurrency caps the client's
+ * deliveries in progress; queueCapacity caps the client's waiting jobs, so one client cannot fill the shared
+ * queue. Clients without an override use the defaults.
+ *
+ * Overrides are given as "CLIENT001=4,CLIENT002=2".
+ */
+public record ClientFairnessPolicy(
+        int defaultWeight,
+        int defaultMaxConcurrency,
+        int queueCapacity,
+        Map<ClientId, Integer> weights,
+        Map<ClientId, Integer> maxConcurrency
+) {
+
+    public ClientFairnessPolicy {
+        requirePositive(defaultWeight, "defaultWeight");
+        requirePositive(defaultMaxConcurrency, "defaultMaxConcurrency");
+        requirePositive(queueCapacity, "queueCapacity");
+        weights = Map.copyOf(Objects.requireNonNull(weights, "weights must not be null"));
+        maxConcurrency = Map.copyOf(Objects.requireNonNull(maxConcurrency, "maxConcurrency must not be null"));
+        weights.values().forEach(value -> requirePositive(value, "weight"));
+        maxConcurrency.values().forEach(value -> requirePositive(value, "maxConcurrency"));
+    }
+
+    public int weightOf(ClientId clientId) {
+        return weights.getOrDefault(clientId, defaultWeight);
+    }
+
+    public int maxConcurrencyOf(ClientId clientId) {
+        return maxConcurrency.getOrDefault(clientId, defaultMaxConcurrency);
+    }
+
+    public static Map<ClientId, Integer> parseOverrides(String spec) {
+        Map<ClientId, Integer> overrides = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return overrides;
+        }
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid client override '" + entry.trim() + "', expected CLIENT=value");
+            }
+            String value = entry.substring(separator + 1).trim();
+            try {
+                overrides.put(ClientId.of(entry.substring(0, separator).trim()), Integer.parseInt(value));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid client override value '" + value + "'", ex);
+            }
+        }
+        return overrides;
+    }
+
+    private static void requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+    }
+}
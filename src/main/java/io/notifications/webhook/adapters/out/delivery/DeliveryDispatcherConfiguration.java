@@ -0,0 +1,118 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.adapters.out.persistence.DeliveryOutboxJdbcRepository;
+import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import io.notifications.webhook.domain.ports.out.DeliveryDispatcher;
+import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import io.notifications.webhook.domain.ports.out.WebhookSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/*
+ * DeliveryDispatcherConfiguration provides the DeliveryDispatcher outbound port implementation.
+ *
+ * Runtime default is asynchronous: replay requests are queued and delivered by virtual-thread workers, with
+ * clients served fairly according to app.delivery.fairness.*.
+ * Setting app.delivery.mode=sync restores delivery on the request thread.
+ *
+ * With app.delivery.mode=outbox, jobs are written to the delivery_outbox table and delivered by workers on
+ * every node, so pending deliveries survive restarts and are shared across replicas.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DeliveryDispatcherConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.delivery.mode", havingValue = "async", matchIfMissing = true)
+    public VirtualThreadDeliveryDispatcher virtualThreadDeliveryDispatcher(
+            WebhookSender webhookSender,
+            @Value("${app.delivery.workers:16}") int workers,
+            @Value("${app.delivery.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.delivery.fairness.default-weight:1}") int defaultWeight,
+            @Value("${app.delivery.fairness.default-max-concurrency:4}") int defaultMaxConcurrency,
+            @Value("${app.delivery.fairness.client-queue-capacity:1000}") int clientQueueCapacity,
+            @Value("${app.delivery.fairness.weights:}") String weights,
+            @Value("${app.delivery.fairness.max-concurrency:}") String maxConcurrency,
+            @Value("${app.delivery.shutdown-timeout:10s}") Duration shutdownTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        ClientFairnessPolicy fairnessPolicy = new ClientFairnessPolicy(
+                defaultWeight,
+                defaultMaxConcurrency,
+                clientQueueCapacity,
+                ClientFairnessPolicy.parseOverrides(weights),
+                ClientFairnessPolicy.parseOverrides(maxConcurrency)
+        );
+        return new VirtualThreadDeliveryDispatcher(
+                webhookSender,
+                workers,
+                queueCapacity,
+                fairnessPolicy,
+                shutdownTimeout,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.delivery.mode", havingValue = "sync")
+    public DeliveryDispatcher synchronousDeliveryDispatcher(WebhookSender webhookSender) {
+        return new SynchronousDeliveryDispatcher(webhookSender);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.delivery.mode", havingValue = "outbox")
+    public DeliveryOutboxJdbcRepository deliveryOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        return new DeliveryOutboxJdbcRepository(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.delivery.mode", havingValue = "outbox")
+    public DeliveryDispatcher outboxDeliveryDispatcher(DeliveryOutboxJdbcRepository outbox, MeterRegistry meterRegistry) {
+        return new OutboxDeliveryDispatcher(outbox, meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.delivery.mode", havingValue = "outbox")
+    public OutboxDeliveryWorker outboxDeliveryWorker(
+            DeliveryOutboxJdbcRepository outbox,
+            NotificationEventRepository notificationEventRepository,
+            DeliveryAttemptRepository deliveryAttemptRepository,
+            WebhookSender webhookSender,
+            @Value("${app.delivery.outbox.node-id:}") String nodeId,
+            @Value("${app.delivery.workers:16}") int workers,
+            @Value("${app.delivery.outbox.batch-size:10}") int batchSize,
+            @Value("${app.delivery.outbox.lease:2m}") Duration lease,
+            @Value("${app.delivery.outbox.poll-interval:500ms}") Duration pollInterval,
+            @Value("${app.delivery.outbox.max-claims:5}") int maxClaims,
+            @Value("${app.delivery.shutdown-timeout:10s}") Duration shutdownTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        String effectiveNodeId = nodeId == null || nodeId.isBlank()
+                ? "node-" + UUID.randomUUID()
+                : nodeId.trim();
+
+        OutboxDeliveryWorker.Settings settings = new OutboxDeliveryWorker.Settings(
+                effectiveNodeId,
+                workers,
+                batchSize,
+                lease,
+                pollInterval,
+                maxClaims,
+                shutdownTimeout
+        );
+        return new OutboxDeliveryWorker(
+                outbox,
+                notificationEventRepository,
+                deliveryAttemptRepository,
+                webhookSender,
+                settings,
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.adapters.out.persistence.DeliveryOutboxJdbcRepository;
+import io.notifications.webhook.domain.model.DeliveryJob;
+import io.notifications.webhook.domain.ports.out.DeliveryDispatcher;
+
+import java.util.Objects;
+
+/*
+ * OutboxDeliveryDispatcher accepts a delivery job by inserting it into the delivery_outbox table.
+ *
+ * The insert is the acceptance: the replay request returns only once the row is committed, and from then on
+ * any node's OutboxDeliveryWorker may deliver it. A job whose correlation id is already pending is accepted
+ * without inserting a second row.
+ *
+ * Metrics:
+ * - webhook_delivery_jobs_total{outcome=enqueued|deduplicated}
+ */
+public final class OutboxDeliveryDispatcher implements DeliveryDispatcher {
+
+    private final DeliveryOutboxJdbcRepository outbox;
+    private final Counter enqueuedCounter;
+    private final Counter deduplicatedCounter;
+
+    public OutboxDeliveryDispatcher(DeliveryOutboxJdbcRepository outbox, MeterRegistry meterRegistry) {
+        this.outbox = Objects.requireNonNull(outbox, "outbox must not be null");
+
+        MeterRegistry registry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.enqueuedCounter = Counter.builder("webhook_delivery_jobs_total").tag("outcome", "enqueued").register(registry);
+        this.deduplicatedCounter = Counter.builder("webhook_delivery_jobs_total").tag("outcome", "deduplicated").register(registry);
+    }
+
+    @Override
+    public void dispatch(DeliveryJob job) {
+        Objects.requireNonNull(job, "job must not be null");
+        if (outbox.enqueue(job)) {
+            enqueuedCounter.increment();
+        } else {
+            deduplicatedCounter.increment();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.adapters.out.persistence.DeliveryOutboxJdbcRepository;
+import io.notifications.webhook.adapters.out.persistence.DeliveryOutboxJdbcRepository.ClaimedDelivery;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import io.notifications.webhook.domain.ports.out.WebhookSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+ * OutboxDeliveryWorker drains the delivery_outbox table on virtual-thread workers. Every node runs its own
+ * workers against the same table; SKIP LOCKED claims keep their batches disjoint, so delivery throughput grows
+ * with the number of nodes.
+ *
+ * A claimed row is leased for leaseDuration. Each worker delivers its batch one row at a time through the
+ * WebhookSender, which records the DeliveryAttempt, and then deletes the row. If the node dies or the send
+ * throws, the row is left in place and becomes claimable again when the lease expires; the lease must
+ * therefore cover a whole batch of webhook calls.
+ *
+ * Delivery is at-least-once. For rows with a correlation id, an existing delivery attempt is checked before
+ * sending, so a row re-claimed after a crash between send and delete is not delivered twice. Rows claimed more
+ * than maxClaims times are dropped and logged.
+ *
+ * Metrics:
+ * - webhook_delivery_outbox_claimed_total
+ * - webhook_delivery_outbox_completed_total{outcome=delivered|deduplicated|event_missing|abandoned}
+ * - webhook_delivery_outbox_lag_seconds
+ */
+public final class OutboxDeliveryWorker implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxDeliveryWorker.class);
+
+    private final DeliveryOutboxJdbcRepository outbox;
+    private final NotificationEventRepository notificationEventRepository;
+    private final DeliveryAttemptRepository deliveryAttemptRepository;
+    private final WebhookSender webhookSender;
+    private final String nodeId;
+    private final int workers;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final Duration pollInterval;
+    private final int maxClaims;
+    private final Duration shutdownTimeout;
+    private final List<Thread> workerThreads = new ArrayList<>();
+
+    private final Counter claimedCounter;
+    private final Counter deliveredCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter eventMissingCounter;
+    private final Counter abandonedCounter;
+    private final Timer lagTimer;
+
+    private volatile boolean closed;
+
+    public OutboxDeliveryWorker(
+            DeliveryOutboxJdbcRepository outbox,
+            NotificationEventRepository notificationEventRepository,
+            DeliveryAttemptRepository deliveryAttemptRepository,
+            WebhookSender webhookSender,
+            Settings settings,
+            MeterRegistry meterRegistry
+    ) {
+        this.outbox = Objects.requireNonNull(outbox, "outbox must not be null");
+        this.notificationEventRepository = Objects.requireNonNull(notificationEventRepository, "notificationEventRepository must not be null");
+        this.deliveryAttemptRepository = Objects.requireNonNull(deliveryAttemptRepository, "deliveryAttemptRepository must not be null");
+        this.webhookSender = Objects.requireNonNull(webhookSender, "webhookSender must not be null");
+        Objects.requireNonNull(settings, "settings must not be null");
+        this.nodeId = settings.nodeId();
+        this.workers = settings.workers();
+        this.batchSize = settings.batchSize();
+        this.leaseDuration = settings.leaseDuration();
+        this.pollInterval = settings.pollInterval();
+        this.maxClaims = settings.maxClaims();
+        this.shutdownTimeout = settings.shutdownTimeout();
+
+        MeterRegistry registry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.claimedCounter = Counter.builder("webhook_delivery_outbox_claimed_total").register(registry);
+        this.deliveredCounter = completedCounter(registry, "delivered");
+        this.deduplicatedCounter = completedCounter(registry, "deduplicated");
+        this.eventMissingCounter = completedCounter(registry, "event_missing");
+        this.abandonedCounter = completedCounter(registry, "abandoned");
+        this.lagTimer = Timer.builder("webhook_delivery_outbox_lag_seconds").register(registry);
+    }
+
+    public synchronized void start() {
+        if (!workerThreads.isEmpty()) {
+            throw new IllegalStateException("Outbox worker already started");
+        }
+        Thread.Builder builder = Thread.ofVirtual().name("webhook-outbox-", 0);
+        for (int i = 0; i < workers; i++) {
+            workerThreads.add(builder.start(this::runWorker));
+        }
+        LOG.info("webhook_delivery_outbox_started node_id={} workers={} batch_size={} lease_ms={}",
+                nodeId, workers, batchSize, leaseDuration.toMillis());
+    }
+
+    /*
+     * Stops claiming, waits up to shutdownTimeout for in-progress batches and hands back unprocessed leases.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        long deadlineNs = System.nanoTime() + shutdownTimeout.toNanos();
+        List<Thread> threads;
+        synchronized (this) {
+            threads = List.copyOf(workerThreads);
+        }
+        boolean stopped = true;
+        for (Thread thread : threads) {
+            try {
+                long remainingNs = deadlineNs - System.nanoTime();
+                if (remainingNs <= 0 || !thread.join(Duration.ofNanos(remainingNs))) {
+                    stopped = false;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                stopped = false;
+                break;
+            }
+        }
+        threads.forEach(Thread::interrupt);
+
+        if (stopped) {
+            try {
+                int released = outbox.release(nodeId);
+                if (released > 0) {
+                    LOG.info("webhook_delivery_outbox_released node_id={} rows={}", nodeId, released);
+                }
+            } catch (RuntimeException ex) {
+                LOG.warn("webhook_delivery_outbox_release_failed node_id={} error={}", nodeId, ex.getMessage());
+            }
+        }
+    }
+
+    private void runWorker() {
+        while (!closed) {
+            List<ClaimedDelivery> batch;
+            try {
+                batch = outbox.claim(nodeId, batchSize, leaseDuration);
+            } catch (RuntimeException ex) {
+                LOG.warn("webhook_delivery_outbox_claim_failed node_id={} error={}", nodeId, ex.getMessage());
+                batch = List.of();
+            }
+
+            if (batch.isEmpty()) {
+                if (!sleep(pollInterval)) {
+                    return;
+                }
+                continue;
+            }
+
+            claimedCounter.increment(batch.size());
+            for (ClaimedDelivery claimed : batch) {
+                if (closed) {
+                    return;
+                }
+                deliver(claimed);
+            }
+        }
+    }
+
+    private void deliver(ClaimedDelivery claimed) {
+        lagTimer.record(Duration.between(claimed.createdAt(), Instant.now()));
+
+        try {
+            if (claimed.claimCount() > maxClaims) {
+                LOG.warn(
+                        "webhook_delivery_outbox_abandoned id={} event_id={} client_id={} claims={}",
+                        claimed.id(),
+                        claimed.eventId(),
+                        claimed.clientId(),
+                        claimed.claimCount()
+                );
+                complete(claimed, abandonedCounter);
+                return;
+            }
+
+            if (claimed.correlationId().isPresent() && deliveryAttemptRepository
+                    .findReplayAttemptedAt(claimed.clientId(), claimed.eventId(), claimed.correlationId().get())
+                    .isPresent()) {
+                complete(claimed, deduplicatedCounter);
+                return;
+            }
+
+            Optional<NotificationEvent> event = notificationEventRepository.findByClientIdAndId(claimed.clientId(), claimed.eventId());
+            if (event.isEmpty()) {
+                LOG.warn(
+                        "webhook_delivery_outbox_event_missing id={} event_id={} client_id={}",
+                        claimed.id(),
+                        claimed.eventId(),
+                        claimed.clientId()
+                );
+                complete(claimed, eventMissingCounter);
+                return;
+            }
+
+            webhookSender.send(claimed.clientId(), event.get(), claimed.correlationId());
+            complete(claimed, deliveredCounter);
+        } catch (RuntimeException ex) {
+            LOG.error(
+                    "webhook_delivery_outbox_failed id={} event_id={} client_id={} claims={} error={}",
+                    claimed.id(),
+                    claimed.eventId(),
+                    claimed.clientId(),
+                    claimed.claimCount(),
+                    ex.getMessage(),
+                    ex
+            );
+        }
+    }
+
+    private void complete(ClaimedDelivery claimed, Counter outcome) {
+        if (outbox.complete(claimed.id(), nodeId)) {
+            outcome.increment();
+        } else {
+            LOG.warn("webhook_delivery_outbox_lease_lost id={} node_id={}", claimed.id(), nodeId);
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return !closed;
+        } catch (InterruptedException ex) {
+            return false;
+        }
+    }
+
+    private static Counter completedCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("webhook_delivery_outbox_completed_total").tag("outcome", outcome).register(registry);
+    }
+
+    public record Settings(
+            String nodeId,
+            int workers,
+            int batchSize,
+            Duration leaseDuration,
+            Duration pollInterval,
+            int maxClaims,
+            Duration shutdownTimeout
+    ) {
+
+        public Settings {
+            if (nodeId == null || nodeId.isBlank()) {
+                throw new IllegalArgumentException("nodeId must not be blank");
+            }
+            if (workers <= 0) {
+                throw new IllegalArgumentException("workers must be positive");
+            }
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+            if (maxClaims <= 0) {
+                throw new IllegalArgumentException("maxClaims must be positive");
+            }
+            requirePositive(leaseDuration, "leaseDuration");
+            requirePositive(pollInterval, "pollInterval");
+            Objects.requireNonNull(shutdownTimeout, "shutdownTimeout must not be null");
+        }
+
+        private static void requirePositive(Duration duration, String name) {
+            Objects.requireNonNull(duration, name + " must not be null");
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+        }
+    }
+}
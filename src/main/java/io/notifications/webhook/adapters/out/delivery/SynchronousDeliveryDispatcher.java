@@ -0,0 +1,27 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.notifications.webhook.domain.model.DeliveryJob;
+import io.notifications.webhook.domain.ports.out.DeliveryDispatcher;
+import io.notifications.webhook.domain.ports.out.WebhookSender;
+
+import java.util.Objects;
+
+/*
+ * SynchronousDeliveryDispatcher delivers each job on the caller's thread by delegating to the WebhookSender.
+ *
+ * This is the original replay behavior: the request returns only after the webhook call has completed.
+ */
+public final class SynchronousDeliveryDispatcher implements DeliveryDispatcher {
+
+    private final WebhookSender webhookSender;
+
+    public SynchronousDeliveryDispatcher(WebhookSender webhookSender) {
+        this.webhookSender = Objects.requireNonNull(webhookSender, "webhookSender must not be null");
+    }
+
+    @Override
+    public void dispatch(DeliveryJob job) {
+        Objects.requireNonNull(job, "job must not be null");
+        webhookSender.send(job.clientId(), job.notificationEvent(), job.correlationId());
+    }
+}
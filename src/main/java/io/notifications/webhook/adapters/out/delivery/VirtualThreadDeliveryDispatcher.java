@@ -0,0 +1,240 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.domain.model.DeliveryJob;
+import io.notifications.webhook.domain.model.DeliveryQueueFull;
+import io.notifications.webhook.domain.ports.out.DeliveryDispatcher;
+import io.notifications.webhook.domain.ports.out.WebhookSender;
+import io.notifications.webhook.domain.ports.out.WebhookSender.DeliveryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * VirtualThreadDeliveryDispatcher accepts delivery jobs into a bounded in-memory queue and delivers them in
+ * the background, so API threads never wait on a webhook target.
+ *
+ * A single dispatch loop on a virtual thread takes jobs from the queue and starts them with
+ * WebhookSender.sendAsync; completion callbacks release the slot. Up to `workers` deliveries are in flight at
+ * once without a thread parked per delivery. Senders without a non-blocking sendAsync get the interface
+ * default, which runs each blocking send on its own virtual thread, so the loop is never held up by them.
+ *
+ * The queue bounds memory and the worker count bounds outbound concurrency. When the queue (or the client's
+ * share of it) is full the job is rejected immediately with DeliveryQueueFull instead of blocking the request
+ * thread. Jobs are handed out by ClientFairQueue, which serves clients by weighted deficit round robin and
+ * caps each client's concurrent deliveries, so a client replaying in bulk cannot starve the others.
+ *
+ * Jobs carrying a correlation id are de-duplicated while they are queued or being delivered: a second job for
+ * the same (client_id, event_id, correlation_id) is accepted without being enqueued again. Once delivered, the
+ * persisted delivery attempt takes over that role.
+ *
+ * The queue is held in memory only; jobs still queued when close() gives up waiting are dropped and logged.
+ *
+ * Metrics:
+ * - webhook_delivery_queue_depth
+ * - webhook_delivery_workers_busy (deliveries in flight)
+ * - webhook_delivery_jobs_total{outcome=enqueued|rejected|deduplicated}
+ * - webhook_delivery_queue_wait_seconds
+ */
+public final class VirtualThreadDeliveryDispatcher implements DeliveryDispatcher, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadDeliveryDispatcher.class);
+
+    private static final long POLL_INTERVAL_MS = 100L;
+
+    private final WebhookSender webhookSender;
+    private final int workers;
+    private final Duration shutdownTimeout;
+    private final ClientFairQueue<QueuedJob> queue;
+    private final Set<InFlightKey> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final Semaphore permits;
+
+    private final Counter enqueuedCounter;
+    private final Counter rejectedCounter;
+    private final Counter deduplicatedCounter;
+    private final Timer queueWaitTimer;
+
+    private Thread dispatchThread;
+    private volatile boolean closed;
+
+    public VirtualThreadDeliveryDispatcher(
+            WebhookSender webhookSender,
+            int workers,
+            int queueCapacity,
+            ClientFairnessPolicy fairnessPolicy,
+            Duration shutdownTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.webhookSender = Objects.requireNonNull(webhookSender, "webhookSender must not be null");
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        this.workers = workers;
+        this.permits = new Semaphore(workers);
+        this.shutdownTimeout = Objects.requireNonNull(shutdownTimeout, "shutdownTimeout must not be null");
+
+        MeterRegistry registry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.queue = new ClientFairQueue<>(
+                Objects.requireNonNull(fairnessPolicy, "fairnessPolicy must not be null"),
+                queueCapacity,
+                registry
+        );
+        Gauge.builder("webhook_delivery_queue_depth", queue, ClientFairQueue::size).register(registry);
+        Gauge.builder("webhook_delivery_workers_busy", busyWorkers, AtomicInteger::get).register(registry);
+        this.enqueuedCounter = Counter.builder("webhook_delivery_jobs_total").tag("outcome", "enqueued").register(registry);
+        this.rejectedCounter = Counter.builder("webhook_delivery_jobs_total").tag("outcome", "rejected").register(registry);
+        this.deduplicatedCounter = Counter.builder("webhook_delivery_jobs_total").tag("outcome", "deduplicated").register(registry);
+        this.queueWaitTimer = Timer.builder("webhook_delivery_queue_wait_seconds").register(registry);
+    }
+
+    public synchronized void start() {
+        if (dispatchThread != null) {
+            throw new IllegalStateException("Dispatcher already started");
+        }
+        dispatchThread = Thread.ofVirtual().name("webhook-delivery-dispatch").start(this::runDispatchLoop);
+    }
+
+    @Override
+    public void dispatch(DeliveryJob job) {
+        Objects.requireNonNull(job, "job must not be null");
+
+        InFlightKey key = InFlightKey.of(job).orElse(null);
+        if (key != null && !inFlight.add(key)) {
+            deduplicatedCounter.increment();
+            return;
+        }
+
+        if (closed || !queue.offer(job.clientId(), new QueuedJob(job, key, System.nanoTime()))) {
+            if (key != null) {
+                inFlight.remove(key);
+            }
+            rejectedCounter.increment();
+            throw new DeliveryQueueFull(job.notificationEvent().id());
+        }
+
+        enqueuedCounter.increment();
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /*
+     * Stops accepting jobs and lets queued and in-flight deliveries finish for up to shutdownTimeout.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        long deadlineNs = System.nanoTime() + shutdownTimeout.toNanos();
+        Thread thread;
+        synchronized (this) {
+            thread = dispatchThread;
+        }
+        try {
+            if (thread != null) {
+                thread.join(Duration.ofNanos(Math.max(1L, deadlineNs - System.nanoTime())));
+                thread.interrupt();
+            }
+            if (permits.tryAcquire(workers, Math.max(0L, deadlineNs - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                permits.release(workers);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        int dropped = queue.clear();
+        inFlight.clear();
+        if (dropped > 0 || busyWorkers.get() > 0) {
+            LOG.warn("webhook_delivery_dispatcher_closed dropped_jobs={} in_flight={}", dropped, busyWorkers.get());
+        }
+    }
+
+    private void runDispatchLoop() {
+        while (!closed || queue.size() > 0) {
+            try {
+                if (!permits.tryAcquire(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException ex) {
+                return;
+            }
+
+            QueuedJob queued;
+            try {
+                queued = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                permits.release();
+                return;
+            }
+
+            if (queued == null) {
+                permits.release();
+            } else {
+                deliver(queued);
+            }
+        }
+    }
+
+    private void deliver(QueuedJob queued) {
+        queueWaitTimer.record(System.nanoTime() - queued.enqueuedAtNs(), TimeUnit.NANOSECONDS);
+        busyWorkers.incrementAndGet();
+
+        DeliveryJob job = queued.job();
+        CompletionStage<DeliveryResult> delivery;
+        try {
+            delivery = webhookSender.sendAsync(job.clientId(), job.notificationEvent(), job.correlationId());
+        } catch (RuntimeException ex) {
+            delivery = CompletableFuture.failedFuture(ex);
+        }
+
+        delivery.whenComplete((result, error) -> {
+            if (error != null) {
+                LOG.error(
+                        "webhook_delivery_job_failed event_id={} client_id={} error={}",
+                        job.notificationEvent().id(),
+                        job.clientId(),
+                        error.getMessage(),
+                        error
+                );
+            }
+            queue.complete(job.clientId());
+            busyWorkers.decrementAndGet();
+            if (queued.key() != null) {
+                inFlight.remove(queued.key());
+            }
+            permits.release();
+        });
+    }
+
+    private record QueuedJob(DeliveryJob job, InFlightKey key, long enqueuedAtNs) {
+    }
+
+    private record InFlightKey(String clientId, String eventId, String correlationId) {
+
+        static Optional<InFlightKey> of(DeliveryJob job) {
+            return job.correlationId().map(correlationId -> new InFlightKey(
+                    job.clientId().value(),
+                    job.notificationEvent().id().value(),
+                    correlationId
+            ));
+        }
+    }
+}
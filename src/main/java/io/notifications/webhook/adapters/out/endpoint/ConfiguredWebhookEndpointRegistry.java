@@ -0,0 +1,71 @@
+package io.notifications.webhook.adapters.out.endpoint;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.ports.out.WebhookEndpointRegistry;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * ConfiguredWebhookEndpointRegistry resolves client endpoints from configuration.
+ *
+ * Clients with an entry in the overrides map are delivered to their own URL; every other client uses the
+ * default target URL. All URLs are validated once at startup and must be absolute https URLs.
+ */
+public final class ConfiguredWebhookEndpointRegistry implements WebhookEndpointRegistry {
+
+    private final String defaultTargetUrl;
+    private final Map<ClientId, String> endpoints;
+
+    public ConfiguredWebhookEndpointRegistry(String defaultTargetUrl, Map<ClientId, String> endpoints) {
+        Objects.requireNonNull(defaultTargetUrl, "defaultTargetUrl must not be null");
+        Objects.requireNonNull(endpoints, "endpoints must not be null");
+
+        this.defaultTargetUrl = requireHttps(defaultTargetUrl, "WEBHOOK_TARGET_URL");
+        Map<ClientId, String> validated = new HashMap<>();
+        endpoints.forEach((clientId, url) -> validated.put(clientId, requireHttps(url, "Webhook endpoint for " + clientId)));
+        this.endpoints = Map.copyOf(validated);
+    }
+
+    @Override
+    public String targetUrl(ClientId clientId) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        return endpoints.getOrDefault(clientId, defaultTargetUrl);
+    }
+
+    /*
+     * Parses "CLIENT001=https://a.example/hook,CLIENT002=https://b.example/hook" into an endpoint map.
+     */
+    public static Map<ClientId, String> parseEndpoints(String spec) {
+        Map<ClientId, String> endpoints = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return endpoints;
+        }
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid webhook endpoint '" + entry.trim() + "', expected CLIENT=https://...");
+            }
+            endpoints.put(ClientId.of(entry.substring(0, separator).trim()), entry.substring(separator + 1).trim());
+        }
+        return endpoints;
+    }
+
+    private static String requireHttps(String url, String name) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(name + " is not a valid URL", ex);
+        }
+        if (uri.getScheme() == null || !uri.getScheme().equalsIgnoreCase("https") || uri.getAuthority() == null) {
+            throw new IllegalArgumentException(name + " must be an https URL");
+        }
+        return url;
+    }
+}
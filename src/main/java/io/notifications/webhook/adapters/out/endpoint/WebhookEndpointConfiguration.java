@@ -0,0 +1,24 @@
+package io.notifications.webhook.adapters.out.endpoint;
+
+import io.notifications.webhook.domain.ports.out.WebhookEndpointRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * WebhookEndpointConfiguration wires the WebhookEndpointRegistry outbound port.
+ *
+ * app.webhook.target-url is the default endpoint; app.webhook.endpoints overrides it per client
+ * (CLIENT001=https://...,CLIENT002=https://...).
+ */
+@Configuration
+public class WebhookEndpointConfiguration {
+
+    @Bean
+    public WebhookEndpointRegistry webhookEndpointRegistry(
+            @Value("${app.webhook.target-url}") String targetUrl,
+            @Value("${app.webhook.endpoints:}") String endpoints
+    ) {
+        return new ConfiguredWebhookEndpointRegistry(targetUrl, ConfiguredWebhookEndpointRegistry.parseEndpoints(endpoints));
+    }
+}
@@ -1,61 +1,162 @@
 package io.notifications.webhook.adapters.out.json;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
-import io.notifications.webhook.adapters.out.json.dto.NotificationEventsSnapshotDto;
+import tools.jackson.databind.ObjectReader;
+import io.notifications.webhook.adapters.out.json.dto.NotificationEventDto;
 import io.notifications.webhook.adapters.out.json.mapper.NotificationEventJsonMapper;
 import io.notifications.webhook.domain.model.NotificationEvent;
-import io.notifications.webhook.domain.ports.out.EventSource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /*
  * JsonEventSourceAdapter is an outbound adapter that implements the EventSource port.
- * It loads notification events from a JSON snapshot file located in the classpath.
+ * It loads notification events from a JSON snapshot file located in the classpath, or from an explicit
+ * file path when one is given.
  *
  * The adapter is responsible only for deserialization and mapping to domain aggregates.
  * All domain invariants are enforced by delegating object creation to the domain layer.
  *
+ * The snapshot is read with a streaming parser: the "events" array is walked token by token and each
+ * element is mapped and handed to the consumer as soon as it is read, so the full DTO list is never
+ * materialized. Invalid records fail the load with their array offset in the error message.
+ *
+ * Every forEach re-reads the snapshot, so when an external path is configured reopen() simply returns this
+ * adapter and the next read picks up the file's current contents. Each read of an external file records
+ * the file's stamp just before opening it.
+ *
  * This class contains no persistence, REST, or business logic responsibilities.
  */
-public final class JsonEventSourceAdapter implements EventSource {
+public final class JsonEventSourceAdapter implements ReloadableEventSource {
 
     private static final String SNAPSHOT_FILE = "notification_events.json";
+    private static final String EVENTS_FIELD = "events";
 
     private final ObjectMapper objectMapper;
+    private final ObjectReader eventReader;
     private final NotificationEventJsonMapper mapper;
+    private final Path snapshotPath;
+    private final String snapshotName;
+    private volatile SnapshotStamp openedStamp;
 
     public JsonEventSourceAdapter(ObjectMapper objectMapper,
                                   NotificationEventJsonMapper mapper) {
+        this(objectMapper, mapper, null);
+    }
+
+    public JsonEventSourceAdapter(ObjectMapper objectMapper,
+                                  NotificationEventJsonMapper mapper,
+                                  Path snapshotPath) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.eventReader = this.objectMapper
+                .readerFor(NotificationEventDto.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
         this.mapper = Objects.requireNonNull(mapper);
+        this.snapshotPath = snapshotPath;
+        this.snapshotName = snapshotPath == null ? SNAPSHOT_FILE : snapshotPath.toString();
     }
 
     @Override
     public List<NotificationEvent> loadAll() {
-        NotificationEventsSnapshotDto snapshot = readSnapshot();
-        return snapshot.events()
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+        List<NotificationEvent> events = new ArrayList<>();
+        forEach(events::add);
+        return List.copyOf(events);
     }
 
-    private NotificationEventsSnapshotDto readSnapshot() {
-        try (InputStream inputStream =
-                     Thread.currentThread()
-                             .getContextClassLoader()
-                             .getResourceAsStream(SNAPSHOT_FILE)) {
+    @Override
+    public void forEach(Consumer<NotificationEvent> consumer) {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+
+        try (InputStream inputStream = openSnapshot()) {
 
             if (inputStream == null) {
                 throw new IllegalStateException("Snapshot file not found in classpath: " + SNAPSHOT_FILE);
             }
 
-            return objectMapper.readValue(inputStream, NotificationEventsSnapshotDto.class);
+            try (JsonParser parser = objectMapper.createParser(inputStream)) {
+                readSnapshot(parser, consumer);
+            }
+
+        } catch (IOException | JacksonException ex) {
+            throw new IllegalStateException("Failed to read snapshot file: " + snapshotName, ex);
+        }
+    }
+
+    @Override
+    public Optional<Path> snapshotPath() {
+        return Optional.ofNullable(snapshotPath);
+    }
+
+    @Override
+    public ReloadableEventSource reopen() {
+        return this;
+    }
 
-        } catch (IOException ex) {
-            throw new IllegalStateException("Failed to read snapshot file: " + SNAPSHOT_FILE, ex);
+    @Override
+    public Optional<SnapshotStamp> openedStamp() {
+        return Optional.ofNullable(openedStamp);
+    }
+
+    private InputStream openSnapshot() throws IOException {
+        if (snapshotPath != null) {
+            openedStamp = SnapshotStamp.of(snapshotPath).orElse(null);
+            return Files.newInputStream(snapshotPath);
+        }
+        return Thread.currentThread()
+                .getContextClassLoader()
+                .getResourceAsStream(SNAPSHOT_FILE);
+    }
+
+    private void readSnapshot(JsonParser parser, Consumer<NotificationEvent> consumer) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Snapshot file must contain a JSON object: " + snapshotName);
+        }
+
+        boolean eventsFound = false;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (EVENTS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                readEvents(parser, consumer);
+                eventsFound = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!eventsFound) {
+            throw new IllegalStateException("Snapshot file has no events array: " + snapshotName);
+        }
+    }
+
+    private void readEvents(JsonParser parser, Consumer<NotificationEvent> consumer) {
+        long offset = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            NotificationEvent event;
+            try {
+                NotificationEventDto dto = eventReader.readValue(parser);
+                event = mapper.toDomain(dto);
+            } catch (JacksonException | IllegalArgumentException | NullPointerException ex) {
+                throw new IllegalStateException(
+                        "Invalid notification event at events[" + offset + "] in snapshot file: " + snapshotName
+                                + " (" + ex.getMessage() + ")",
+                        ex
+                );
+            }
+            consumer.accept(event);
+            offset++;
         }
     }
-}
\ No newline at end of file
+}
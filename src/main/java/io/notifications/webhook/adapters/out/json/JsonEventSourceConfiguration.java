@@ -3,15 +3,25 @@ package io.notifications.webhook.adapters.out.json;
 import tools.jackson.databind.ObjectMapper;
 import io.notifications.webhook.adapters.out.json.mapper.NotificationEventJsonMapper;
 import io.notifications.webhook.domain.ports.out.EventSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+
 /*
  * JsonEventSourceConfiguration wires the JsonEventSourceAdapter as the
  * implementation of the EventSource outbound port.
  *
  * This configuration keeps infrastructure concerns outside of the domain layer
  * and ensures proper dependency injection through Spring.
+ *
+ * The snapshot is read from the classpath unless app.events.json.path points to an external file,
+ * which is required for hot reloads.
+ *
+ * The JSON source is the default. A memory-mapped binary snapshot can be used instead by setting:
+ *   app.events.source=binary
  */
 @Configuration
 public class JsonEventSourceConfiguration {
@@ -22,8 +32,10 @@ public class JsonEventSourceConfiguration {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "app.events.source", havingValue = "json", matchIfMissing = true)
     public EventSource jsonEventSource(ObjectMapper objectMapper,
-                                       NotificationEventJsonMapper mapper) {
-        return new JsonEventSourceAdapter(objectMapper, mapper);
+                                       NotificationEventJsonMapper mapper,
+                                       @Value("${app.events.json.path:}") String snapshotPath) {
+        return new JsonEventSourceAdapter(objectMapper, mapper, snapshotPath.isBlank() ? null : Path.of(snapshotPath));
     }
 }
\ No newline at end of file
@@ -1,29 +1,108 @@
 package io.notifications.webhook.adapters.out.json;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.adapters.out.json.index.EventRows;
+import io.notifications.webhook.adapters.out.json.index.NotificationEventIndex;
 import io.notifications.webhook.domain.model.ClientId;
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventCursor;
 import io.notifications.webhook.domain.model.NotificationEventFilter;
 import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.model.NotificationEventPage;
 import io.notifications.webhook.domain.ports.out.EventSource;
 import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /*
  * JsonNotificationEventRepositoryAdapter is an outbound adapter that implements the NotificationEventRepository port.
- * It provides a read-only view of notification events backed by a static EventSource (JSON snapshot).
+ * It provides a read-only view of notification events backed by a static EventSource (JSON or binary snapshot).
  *
- * This adapter enforces tenant isolation by filtering on clientId and applies query filters in-memory.
+ * The snapshot is streamed once at construction time into an immutable NotificationEventIndex. Tenant isolation
+ * is enforced by resolving the client's partition first, so queries never touch other clients' events.
+ * Date ranges are resolved by binary search over the partition's time-sorted index and delivery status
+ * filters by intersecting a per-status bitmap with that window; results are returned ordered by delivery_date.
  * It does not persist or mutate events, since the snapshot is immutable by design.
+ *
+ * A new snapshot version can be installed with reload(). The new index is built off to the side, reusing
+ * unchanged client partitions of the current one, and then published through a single volatile write.
+ * Each query reads the current index once, so readers never block and never observe a half-built index.
+ *
+ * Metrics:
+ * - notification_event_index_build_seconds
+ * - notification_event_index_events
+ * - notification_event_index_clients
+ * - notification_event_index_estimated_bytes
+ * - notification_event_snapshot_version
+ * - notification_event_snapshot_reload_seconds
  */
 public final class JsonNotificationEventRepositoryAdapter implements NotificationEventRepository {
 
-    private final EventSource eventSource;
+    private final Timer reloadTimer;
+    private final AtomicLong snapshotVersion = new AtomicLong(1L);
+
+    private volatile NotificationEventIndex index;
+
+    public JsonNotificationEventRepositoryAdapter(EventSource eventSource, MeterRegistry meterRegistry) {
+        Objects.requireNonNull(eventSource, "eventSource must not be null");
+        MeterRegistry registry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        Timer buildTimer = Timer.builder("notification_event_index_build_seconds")
+                .register(registry);
+        this.reloadTimer = Timer.builder("notification_event_snapshot_reload_seconds")
+                .register(registry);
+
+        long startedAtNs = System.nanoTime();
+        this.index = buildIndex(eventSource, null);
+        buildTimer.record(System.nanoTime() - startedAtNs, TimeUnit.NANOSECONDS);
+
+        Gauge.builder("notification_event_index_events", this, adapter -> adapter.index.eventCount())
+                .register(registry);
+        Gauge.builder("notification_event_index_clients", this, adapter -> adapter.index.clientCount())
+                .register(registry);
+        Gauge.builder("notification_event_index_estimated_bytes", this, adapter -> adapter.index.estimatedBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("notification_event_snapshot_version", snapshotVersion, AtomicLong::get)
+                .register(registry);
+    }
+
+    /*
+     * Builds an index for the given source against the current one and swaps it in.
+     * Reloads are serialized; queries keep using the previous index until the swap.
+     */
+    public synchronized NotificationEventIndex reload(EventSource eventSource) {
+        Objects.requireNonNull(eventSource, "eventSource must not be null");
+
+        long startedAtNs = System.nanoTime();
+        NotificationEventIndex next = buildIndex(eventSource, index);
+        this.index = next;
+        snapshotVersion.incrementAndGet();
+        reloadTimer.record(System.nanoTime() - startedAtNs, TimeUnit.NANOSECONDS);
+        return next;
+    }
 
-    public JsonNotificationEventRepositoryAdapter(EventSource eventSource) {
-        this.eventSource = Objects.requireNonNull(eventSource, "eventSource must not be null");
+    public long snapshotVersion() {
+        return snapshotVersion.get();
+    }
+
+    /*
+     * Sources that expose their rows (the memory-mapped binary snapshot) are indexed straight from their
+     * primitive columns; others are streamed event by event.
+     */
+    private static NotificationEventIndex buildIndex(EventSource eventSource, NotificationEventIndex previous) {
+        if (eventSource instanceof EventRows rows) {
+            return NotificationEventIndex.build(rows, previous);
+        }
+        NotificationEventIndex.Builder builder = NotificationEventIndex.builder();
+        eventSource.forEach(builder::add);
+        return builder.build(previous);
     }
 
     @Override
@@ -31,11 +110,23 @@ public final class JsonNotificationEventRepositoryAdapter implements Notificatio
         Objects.requireNonNull(clientId, "clientId must not be null");
         Objects.requireNonNull(filter, "filter must not be null");
 
-        return eventSource.loadAll()
-                .stream()
-                .filter(event -> event.clientId().equals(clientId))
-                .filter(event -> matchesFilter(event, filter))
-                .toList();
+        return index.partition(clientId)
+                .map(partition -> partition.find(filter))
+                .orElse(List.of());
+    }
+
+    @Override
+    public NotificationEventPage findPageByClientId(ClientId clientId,
+                                                    NotificationEventFilter filter,
+                                                    Optional<NotificationEventCursor> after,
+                                                    int limit) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        Objects.requireNonNull(after, "after must not be null");
+
+        return index.partition(clientId)
+                .map(partition -> partition.findPage(filter, after, limit))
+                .orElseGet(() -> NotificationEventPage.last(List.of()));
     }
 
     @Override
@@ -43,34 +134,12 @@ public final class JsonNotificationEventRepositoryAdapter implements Notificatio
         Objects.requireNonNull(clientId, "clientId must not be null");
         Objects.requireNonNull(id, "id must not be null");
 
-        return eventSource.loadAll()
-                .stream()
-                .filter(event -> event.clientId().equals(clientId))
-                .filter(event -> event.id().equals(id))
-                .findFirst();
+        return index.partition(clientId)
+                .flatMap(partition -> partition.findById(id));
     }
 
     @Override
     public void save(NotificationEvent notificationEvent) {
         throw new UnsupportedOperationException("Notification events are read-only and cannot be persisted from the JSON-backed repository");
     }
-
-    private boolean matchesFilter(NotificationEvent event, NotificationEventFilter filter) {
-        if (filter.deliveryStatus().isPresent()
-                && !event.deliveryStatus().equals(filter.deliveryStatus().get())) {
-            return false;
-        }
-
-        if (filter.fromInclusive().isPresent()
-                && event.deliveryDate().isBefore(filter.fromInclusive().get())) {
-            return false;
-        }
-
-        if (filter.toInclusive().isPresent()
-                && event.deliveryDate().isAfter(filter.toInclusive().get())) {
-            return false;
-        }
-
-        return true;
-    }
 }
\ No newline at end of file
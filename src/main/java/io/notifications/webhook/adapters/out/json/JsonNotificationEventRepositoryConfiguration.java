@@ -1,22 +1,45 @@
 package io.notifications.webhook.adapters.out.json;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.notifications.webhook.domain.ports.out.EventSource;
-import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /*
  * JsonNotificationEventRepositoryConfiguration wires a JSON-backed implementation of the
  * NotificationEventRepository outbound port.
  *
  * This configuration makes the static JSON snapshot the default source of truth for query operations
- * while keeping the domain layer independent from infrastructure details.
+ * while keeping the domain layer independent from infrastructure details. The snapshot is indexed once
+ * at startup, so request handling never re-reads or re-parses the JSON file.
+ *
+ * It steps aside when events.repository=jpa selects the database-backed repository instead.
+ *
+ * When app.events.reload.enabled is true, the external snapshot file (app.events.json.path or
+ * app.events.binary.path) is polled and new versions are swapped in without a restart.
  */
 @Configuration
+@ConditionalOnProperty(name = "events.repository", havingValue = "json", matchIfMissing = true)
 public class JsonNotificationEventRepositoryConfiguration {
 
     @Bean
-    public NotificationEventRepository jsonNotificationEventRepository(EventSource eventSource) {
-        return new JsonNotificationEventRepositoryAdapter(eventSource);
+    public JsonNotificationEventRepositoryAdapter jsonNotificationEventRepository(EventSource eventSource,
+                                                                                 MeterRegistry meterRegistry) {
+        return new JsonNotificationEventRepositoryAdapter(eventSource, meterRegistry);
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(name = "app.events.reload.enabled", havingValue = "true")
+    public SnapshotReloader snapshotReloader(EventSource eventSource,
+                                             JsonNotificationEventRepositoryAdapter repository,
+                                             @Value("${app.events.reload.interval:5s}") Duration interval) {
+        if (!(eventSource instanceof ReloadableEventSource reloadable)) {
+            throw new IllegalStateException("Snapshot reload is not supported by " + eventSource.getClass().getSimpleName());
+        }
+        return new SnapshotReloader(reloadable, repository, interval);
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package io.notifications.webhook.adapters.out.json;
+
+import io.notifications.webhook.domain.ports.out.EventSource;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/*
+ * ReloadableEventSource is an EventSource backed by a snapshot file that can be replaced while the
+ * application is running.
+ *
+ * snapshotPath is empty when the snapshot is a classpath resource, which cannot change at runtime.
+ * reopen returns a source that reads the file's current contents.
+ *
+ * openedStamp is the stamp of the file version this source last read, taken just before the file was
+ * opened. It is empty for a classpath snapshot, or before the file has been read.
+ */
+public interface ReloadableEventSource extends EventSource {
+
+    Optional<Path> snapshotPath();
+
+    ReloadableEventSource reopen();
+
+    Optional<SnapshotStamp> openedStamp();
+}
@@ -0,0 +1,96 @@
+package io.notifications.webhook.adapters.out.json;
+
+import io.notifications.webhook.adapters.out.json.index.NotificationEventIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * SnapshotReloader watches the external snapshot file behind a ReloadableEventSource and installs new
+ * versions into the JSON-backed repository without a restart.
+ *
+ * The file is polled on a single background thread. Polling (rather than a WatchService) also catches
+ * replacements made through symlink swaps, as done by mounted config volumes. A change is detected from
+ * the file's modification time, size and file key; the index is then rebuilt in the background and
+ * swapped in by the repository.
+ *
+ * The version already loaded is identified by the stamp the source took when it opened the file, not by
+ * a stamp read afterwards, so a file replaced while it was being loaded (at startup or during a reload)
+ * is picked up by the next poll.
+ *
+ * A failed reload (e.g. a file caught mid-write) is logged and leaves the current index in place; the
+ * file is retried on the next poll.
+ */
+public final class SnapshotReloader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotReloader.class);
+
+    private final ReloadableEventSource eventSource;
+    private final JsonNotificationEventRepositoryAdapter repository;
+    private final Path snapshotPath;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService executor;
+
+    private SnapshotStamp lastLoaded;
+
+    public SnapshotReloader(ReloadableEventSource eventSource,
+                            JsonNotificationEventRepositoryAdapter repository,
+                            Duration pollInterval) {
+        this.eventSource = Objects.requireNonNull(eventSource, "eventSource must not be null");
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.pollInterval = Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        this.snapshotPath = eventSource.snapshotPath()
+                .orElseThrow(() -> new IllegalStateException("Snapshot reload requires an external snapshot path"));
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        lastLoaded = eventSource.openedStamp().orElse(null);
+        long intervalMs = pollInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::poll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /*
+     * Checks the file once and reloads it if it changed since the last successful load.
+     */
+    void poll() {
+        SnapshotStamp current = SnapshotStamp.of(snapshotPath).orElse(null);
+        if (current == null || current.equals(lastLoaded)) {
+            return;
+        }
+
+        try {
+            ReloadableEventSource reopened = eventSource.reopen();
+            NotificationEventIndex index = repository.reload(reopened);
+            lastLoaded = reopened.openedStamp().orElse(current);
+            LOG.info(
+                    "notification_event_snapshot_reloaded path={} version={} events={} clients={} reused_partitions={}",
+                    snapshotPath,
+                    repository.snapshotVersion(),
+                    index.eventCount(),
+                    index.clientCount(),
+                    index.reusedPartitionCount()
+            );
+        } catch (RuntimeException ex) {
+            LOG.warn("notification_event_snapshot_reload_failed path={} error={}", snapshotPath, ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
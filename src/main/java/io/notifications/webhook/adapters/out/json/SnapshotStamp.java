@@ -0,0 +1,29 @@
+package io.notifications.webhook.adapters.out.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+/*
+ * SnapshotStamp identifies one version of a snapshot file by its modification time, size and file key.
+ *
+ * Sources take the stamp just before they open the file. A replacement made while the file is being read
+ * then shows up as a different stamp on the next check, so it is loaded again instead of being missed.
+ */
+public record SnapshotStamp(FileTime lastModified, long size, Object fileKey) {
+
+    /*
+     * Returns the stamp of the file currently at path, or empty when it cannot be read (e.g. mid-swap).
+     */
+    public static Optional<SnapshotStamp> of(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new SnapshotStamp(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey()));
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.notifications.webhook.adapters.out.json.binary;
+
+import io.notifications.webhook.adapters.out.json.JsonEventSourceAdapter;
+import io.notifications.webhook.adapters.out.json.mapper.NotificationEventJsonMapper;
+import io.notifications.webhook.domain.ports.out.EventSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * BinaryEventSourceConfiguration wires the MappedBinaryEventSource as the EventSource outbound port.
+ *
+ * Enabled with:
+ *   app.events.source=binary
+ *   app.events.binary.path=/path/to/notification_events.bin
+ *
+ * The binary file is normally produced ahead of time by BinarySnapshotCompiler. When the file does not
+ * exist, it is compiled once at startup from the classpath JSON snapshot, unless
+ * app.events.binary.compile-if-missing is false.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.events.source", havingValue = "binary")
+public class BinaryEventSourceConfiguration {
+
+    @Bean
+    public EventSource binaryEventSource(
+            @Value("${app.events.binary.path}") String path,
+            @Value("${app.events.binary.compile-if-missing:true}") boolean compileIfMissing,
+            ObjectMapper objectMapper,
+            NotificationEventJsonMapper mapper
+    ) {
+        Path snapshot = Path.of(path);
+        if (compileIfMissing && Files.notExists(snapshot)) {
+            new BinarySnapshotCompiler().compile(new JsonEventSourceAdapter(objectMapper, mapper), snapshot);
+        }
+        return MappedBinaryEventSource.open(snapshot);
+    }
+}
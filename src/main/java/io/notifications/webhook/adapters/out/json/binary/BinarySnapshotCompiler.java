@@ -0,0 +1,339 @@
+package io.notifications.webhook.adapters.out.json.binary;
+
+import io.notifications.webhook.adapters.out.json.JsonEventSourceAdapter;
+import io.notifications.webhook.adapters.out.json.index.EpochNanos;
+import io.notifications.webhook.adapters.out.json.index.RowSort;
+import io.notifications.webhook.adapters.out.json.mapper.NotificationEventJsonMapper;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.EventType;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.ports.out.EventSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * BinarySnapshotCompiler converts an EventSource (typically the JSON snapshot) into the columnar file
+ * described by BinarySnapshotFormat.
+ *
+ * Events are streamed from the source one at a time and each column is written to its own temporary file.
+ * The temporary columns are then mapped, the rows are ordered by (client, delivery date, event id) and the
+ * final file is written in that order, so opening it never has to sort. Only the row order (an int per
+ * event) and the keys of one client at a time are held on the heap.
+ * The output is written next to the target and atomically moved into place.
+ *
+ * Usage: BinarySnapshotCompiler <output.bin> [<input.json>]
+ * Without an input path, the classpath notification_events.json is compiled.
+ */
+public final class BinarySnapshotCompiler {
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: BinarySnapshotCompiler <output.bin> [<input.json>]");
+            System.exit(2);
+        }
+
+        Path output = Path.of(args[0]);
+        Path input = args.length == 2 ? Path.of(args[1]) : null;
+
+        EventSource source = new JsonEventSourceAdapter(JsonMapper.builder().build(), new NotificationEventJsonMapper(), input);
+        int events = new BinarySnapshotCompiler().compile(source, output);
+
+        System.out.println("Compiled " + events + " events into " + output);
+    }
+
+    public int compile(EventSource source, Path output) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(output, "output must not be null");
+
+        Path target = output.toAbsolutePath();
+        Path workDir = null;
+        try {
+            Files.createDirectories(target.getParent());
+            workDir = Files.createTempDirectory(target.getParent(), ".snapshot-compile-");
+            Columns columns = new Columns(workDir);
+            try {
+                source.forEach(columns::append);
+            } finally {
+                columns.close();
+            }
+
+            Path assembled = workDir.resolve("snapshot.bin");
+            columns.assemble(assembled);
+            Files.move(assembled, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return columns.eventCount;
+        } catch (IOException | UncheckedIOException ex) {
+            throw new IllegalStateException("Failed to compile binary snapshot: " + target, ex);
+        } finally {
+            deleteQuietly(workDir);
+        }
+    }
+
+    private static void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+            // Best effort cleanup of temporary column files.
+        }
+    }
+
+    private static final class Columns {
+
+        private final Path dir;
+        private final List<ColumnFile> files = new ArrayList<>();
+
+        private final ColumnFile deliveryNanos;
+        private final ColumnFile idOffsets;
+        private final ColumnFile contentOffsets;
+        private final ColumnFile clientIndex;
+        private final ColumnFile idHash;
+        private final ColumnFile status;
+        private final ColumnFile type;
+        private final ColumnFile idBlob;
+        private final ColumnFile contentBlob;
+
+        private final Map<ClientId, Integer> clientIndexes = new HashMap<>();
+        private final List<String> clients = new ArrayList<>();
+
+        private int eventCount;
+        private long idBlobLength;
+        private long contentBlobLength;
+
+        Columns(Path dir) throws IOException {
+            this.dir = dir;
+            this.deliveryNanos = open("delivery_nanos");
+            this.idOffsets = open("id_offsets");
+            this.contentOffsets = open("content_offsets");
+            this.clientIndex = open("client_index");
+            this.idHash = open("id_hash");
+            this.status = open("status");
+            this.type = open("type");
+            this.idBlob = open("id_blob");
+            this.contentBlob = open("content_blob");
+
+            idOffsets.out.writeLong(0L);
+            contentOffsets.out.writeLong(0L);
+        }
+
+        void append(NotificationEvent event) {
+            if (eventCount == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Binary snapshot supports at most " + Integer.MAX_VALUE + " events");
+            }
+
+            try {
+                byte[] id = event.id().value().getBytes(StandardCharsets.UTF_8);
+                byte[] content = event.content().getBytes(StandardCharsets.UTF_8);
+
+                Integer client = clientIndexes.get(event.clientId());
+                if (client == null) {
+                    client = clients.size();
+                    clientIndexes.put(event.clientId(), client);
+                    clients.add(event.clientId().value());
+                }
+
+                idBlob.out.write(id);
+                contentBlob.out.write(content);
+                idBlobLength += id.length;
+                contentBlobLength += content.length;
+
+                deliveryNanos.out.writeLong(EpochNanos.of(event.deliveryDate()));
+                idOffsets.out.writeLong(idBlobLength);
+                contentOffsets.out.writeLong(contentBlobLength);
+                clientIndex.out.writeInt(client);
+                idHash.out.writeInt(event.id().value().hashCode());
+                status.out.writeByte(event.deliveryStatus().ordinal());
+                type.out.writeByte(event.eventType().ordinal());
+
+                eventCount++;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void close() throws IOException {
+            for (ColumnFile file : files) {
+                file.out.close();
+            }
+        }
+
+        void assemble(Path target) throws IOException {
+            Path dictionary = dir.resolve("dictionary");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dictionary), BUFFER_BYTES))) {
+                out.writeInt(DeliveryStatus.values().length);
+                for (DeliveryStatus value : DeliveryStatus.values()) {
+                    writeShortString(out, value.name());
+                }
+                out.writeInt(EventType.values().length);
+                for (EventType value : EventType.values()) {
+                    writeShortString(out, value.name());
+                }
+                for (String client : clients) {
+                    byte[] bytes = client.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+
+            long dictionaryOffset = BinarySnapshotFormat.HEADER_BYTES;
+            long columnsOffset = dictionaryOffset + Files.size(dictionary);
+            long idBlobOffset = BinarySnapshotFormat.columnsEnd(columnsOffset, eventCount);
+            long contentBlobOffset = idBlobOffset + idBlobLength;
+            long fileLength = contentBlobOffset + contentBlobLength;
+
+            MappedFile deliveryNanosColumn = MappedFile.map(deliveryNanos.path);
+            MappedFile idOffsetsColumn = MappedFile.map(idOffsets.path);
+            MappedFile contentOffsetsColumn = MappedFile.map(contentOffsets.path);
+            MappedFile clientIndexColumn = MappedFile.map(clientIndex.path);
+            MappedFile idHashColumn = MappedFile.map(idHash.path);
+            MappedFile statusColumn = MappedFile.map(status.path);
+            MappedFile typeColumn = MappedFile.map(type.path);
+            MappedFile idBlobColumn = MappedFile.map(idBlob.path);
+            MappedFile contentBlobColumn = MappedFile.map(contentBlob.path);
+
+            int[] order = deliveryOrder(clientIndexColumn, deliveryNanosColumn, idOffsetsColumn, idBlobColumn);
+
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES))) {
+                var header = java.nio.ByteBuffer.allocate(BinarySnapshotFormat.HEADER_BYTES);
+                header.putInt(BinarySnapshotFormat.MAGIC)
+                        .putInt(BinarySnapshotFormat.VERSION)
+                        .putInt(eventCount)
+                        .putInt(clients.size())
+                        .putLong(dictionaryOffset)
+                        .putLong(columnsOffset)
+                        .putLong(idBlobOffset)
+                        .putLong(contentBlobOffset)
+                        .putLong(fileLength)
+                        .putInt(BinarySnapshotFormat.FLAG_DELIVERY_ORDERED);
+                out.write(header.array());
+                Files.copy(dictionary, out);
+
+                for (int row : order) {
+                    out.writeLong(deliveryNanosColumn.getLong(8L * row));
+                }
+                writeOffsets(out, idOffsetsColumn, order);
+                writeOffsets(out, contentOffsetsColumn, order);
+                for (int row : order) {
+                    out.writeInt(clientIndexColumn.getInt(4L * row));
+                }
+                for (int row : order) {
+                    out.writeInt(idHashColumn.getInt(4L * row));
+                }
+                for (int row : order) {
+                    out.writeByte(statusColumn.getByte(row));
+                }
+                for (int row : order) {
+                    out.writeByte(typeColumn.getByte(row));
+                }
+                writeBlob(out, idBlobColumn, idOffsetsColumn, order);
+                writeBlob(out, contentBlobColumn, contentOffsetsColumn, order);
+                out.flush();
+
+                if (channel.size() != fileLength) {
+                    throw new IllegalStateException("Binary snapshot length mismatch: expected " + fileLength + " but wrote " + channel.size());
+                }
+                channel.force(true);
+            }
+        }
+
+        /*
+         * Returns the row numbers grouped by client index and, within a client, ordered by (delivery date,
+         * event id), the order ClientEventPartition keeps them in. Rows are bucketed by client in one pass,
+         * then each client's rows are sorted on their own.
+         */
+        private int[] deliveryOrder(MappedFile clientIndexColumn, MappedFile deliveryNanosColumn,
+                                    MappedFile idOffsetsColumn, MappedFile idBlobColumn) {
+            int clientCount = clients.size();
+            int[] starts = new int[clientCount + 1];
+            for (int row = 0; row < eventCount; row++) {
+                starts[clientIndexColumn.getInt(4L * row) + 1]++;
+            }
+            for (int client = 0; client < clientCount; client++) {
+                starts[client + 1] += starts[client];
+            }
+
+            int[] order = new int[eventCount];
+            int[] next = Arrays.copyOf(starts, clientCount);
+            for (int row = 0; row < eventCount; row++) {
+                order[next[clientIndexColumn.getInt(4L * row)]++] = row;
+            }
+
+            for (int client = 0; client < clientCount; client++) {
+                int[] rows = Arrays.copyOfRange(order, starts[client], starts[client + 1]);
+                long[] keys = new long[rows.length];
+                for (int i = 0; i < rows.length; i++) {
+                    keys[i] = deliveryNanosColumn.getLong(8L * rows[i]);
+                }
+                RowSort.sort(rows, keys, (left, right) ->
+                        blobString(idBlobColumn, idOffsetsColumn, left).compareTo(blobString(idBlobColumn, idOffsetsColumn, right)));
+                System.arraycopy(rows, 0, order, starts[client], rows.length);
+            }
+            return order;
+        }
+
+        private ColumnFile open(String name) throws IOException {
+            Path path = dir.resolve(name);
+            ColumnFile file = new ColumnFile(path, new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_BYTES)));
+            files.add(file);
+            return file;
+        }
+
+        private static void writeShortString(DataOutputStream out, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+
+        /*
+         * Writes the offsets of the rows' blob entries once the entries are laid out in the given order.
+         */
+        private static void writeOffsets(DataOutputStream out, MappedFile offsets, int[] order) throws IOException {
+            long offset = 0L;
+            out.writeLong(offset);
+            for (int row : order) {
+                offset += offsets.getLong(8L * (row + 1)) - offsets.getLong(8L * row);
+                out.writeLong(offset);
+            }
+        }
+
+        private static void writeBlob(DataOutputStream out, MappedFile blob, MappedFile offsets, int[] order) throws IOException {
+            for (int row : order) {
+                long start = offsets.getLong(8L * row);
+                out.write(blob.getBytes(start, Math.toIntExact(offsets.getLong(8L * (row + 1)) - start)));
+            }
+        }
+
+        private static String blobString(MappedFile blob, MappedFile offsets, int row) {
+            long start = offsets.getLong(8L * row);
+            return blob.getUtf8(start, Math.toIntExact(offsets.getLong(8L * (row + 1)) - start));
+        }
+    }
+
+    private record ColumnFile(Path path, DataOutputStream out) {
+    }
+}
@@ -0,0 +1,87 @@
+package io.notifications.webhook.adapters.out.json.binary;
+
+/*
+ * BinarySnapshotFormat describes the compact columnar file compiled from notification_events.json.
+ *
+ * All values are big-endian. Layout:
+ *
+ *   header (64 bytes)
+ *     int  magic ("NEVB")
+ *     int  version
+ *     int  eventCount (n)
+ *     int  clientCount
+ *     long dictionaryOffset
+ *     long columnsOffset
+ *     long idBlobOffset
+ *     long contentBlobOffset
+ *     long fileLength
+ *     int  flags
+ *
+ *   dictionary
+ *     int statusCount, then per status: short length + UTF-8 enum name (code = position)
+ *     int typeCount, then per type: short length + UTF-8 enum name (code = position)
+ *     per client: int length + UTF-8 client id (client index = position)
+ *
+ *   columns, in this order
+ *     long[n]   delivery date as epoch-nanos
+ *     long[n+1] event id offsets into the id blob
+ *     long[n+1] content offsets into the content blob
+ *     int[n]    client index
+ *     int[n]    String.hashCode of the event id
+ *     byte[n]   delivery status code
+ *     byte[n]   event type code
+ *
+ *   id blob: UTF-8 event ids, back to back
+ *   content blob: UTF-8 event contents, back to back
+ *
+ * Rows are grouped by client (in dictionary order) and each client's rows are ordered by (delivery date,
+ * event id), which the FLAG_DELIVERY_ORDERED flag records. Files compiled before the flags field existed
+ * have zero there, so their rows are sorted when the index is built.
+ *
+ * Enum codes are resolved by name when the file is opened, so reordering the domain enums does not
+ * invalidate existing files.
+ */
+final class BinarySnapshotFormat {
+
+    static final int MAGIC = 0x4E455642;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int FLAGS_OFFSET = 56;
+
+    static final int FLAG_DELIVERY_ORDERED = 1;
+
+    private BinarySnapshotFormat() {
+    }
+
+    static long deliveryNanosOffset(long columnsOffset) {
+        return columnsOffset;
+    }
+
+    static long idOffsetsOffset(long columnsOffset, int eventCount) {
+        return deliveryNanosOffset(columnsOffset) + 8L * eventCount;
+    }
+
+    static long contentOffsetsOffset(long columnsOffset, int eventCount) {
+        return idOffsetsOffset(columnsOffset, eventCount) + 8L * (eventCount + 1L);
+    }
+
+    static long clientIndexOffset(long columnsOffset, int eventCount) {
+        return contentOffsetsOffset(columnsOffset, eventCount) + 8L * (eventCount + 1L);
+    }
+
+    static long idHashOffset(long columnsOffset, int eventCount) {
+        return clientIndexOffset(columnsOffset, eventCount) + 4L * eventCount;
+    }
+
+    static long statusOffset(long columnsOffset, int eventCount) {
+        return idHashOffset(columnsOffset, eventCount) + 4L * eventCount;
+    }
+
+    static long typeOffset(long columnsOffset, int eventCount) {
+        return statusOffset(columnsOffset, eventCount) + eventCount;
+    }
+
+    static long columnsEnd(long columnsOffset, int eventCount) {
+        return typeOffset(columnsOffset, eventCount) + eventCount;
+    }
+}
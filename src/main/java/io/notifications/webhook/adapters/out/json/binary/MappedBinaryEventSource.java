@@ -0,0 +1,284 @@
+package io.notifications.webhook.adapters.out.json.binary;
+
+import io.notifications.webhook.adapters.out.json.ReloadableEventSource;
+import io.notifications.webhook.adapters.out.json.SnapshotStamp;
+import io.notifications.webhook.adapters.out.json.index.EpochNanos;
+import io.notifications.webhook.adapters.out.json.index.EventRows;
+import io.notifications.webhook.adapters.out.json.index.RowFingerprint;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.EventType;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventId;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/*
+ * MappedBinaryEventSource is an EventSource backed by a memory-mapped binary snapshot (see BinarySnapshotFormat).
+ *
+ * Opening the file only validates the header and decodes the small dictionary (enum names and client ids);
+ * no event is decoded up front. Events are materialized lazily, one row at a time, when they are iterated or
+ * returned by a query, so the bulk of the data (ids, contents, dates) stays in the OS page cache instead of
+ * the Java heap.
+ *
+ * It also implements EventRows, which lets the in-memory index be built directly from the primitive columns
+ * without materializing any NotificationEvent. Files from BinarySnapshotCompiler store each client's rows
+ * in delivery order, so building the index does not sort them either.
+ *
+ * A mapping is bound to the file that was open when it was created, so reopen() maps the path again; the
+ * file's stamp is taken just before it is mapped. The
+ * file must be replaced atomically (as BinarySnapshotCompiler does) rather than rewritten in place, since
+ * partitions reused across a reload keep reading from the previous mapping.
+ */
+public final class MappedBinaryEventSource implements ReloadableEventSource, EventRows {
+
+    private final Path path;
+    private final SnapshotStamp openedStamp;
+    private final MappedFile file;
+    private final int eventCount;
+
+    private final DeliveryStatus[] statusByCode;
+    private final EventType[] typeByCode;
+    private final ClientId[] clients;
+
+    private final long deliveryNanosOffset;
+    private final long idOffsetsOffset;
+    private final long contentOffsetsOffset;
+    private final long clientIndexOffset;
+    private final long idHashOffset;
+    private final long statusOffset;
+    private final long typeOffset;
+    private final long idBlobOffset;
+    private final long contentBlobOffset;
+    private final boolean deliveryOrdered;
+
+    private MappedBinaryEventSource(Path path, SnapshotStamp openedStamp, MappedFile file) {
+        this.path = path;
+        this.openedStamp = openedStamp;
+        this.file = file;
+
+        if (file.length() < BinarySnapshotFormat.HEADER_BYTES) {
+            throw invalid("file is shorter than the header");
+        }
+        if (file.getInt(0) != BinarySnapshotFormat.MAGIC) {
+            throw invalid("unexpected magic number");
+        }
+        int version = file.getInt(4);
+        if (version != BinarySnapshotFormat.VERSION) {
+            throw invalid("unsupported version " + version);
+        }
+
+        this.eventCount = file.getInt(8);
+        int clientCount = file.getInt(12);
+        long dictionaryOffset = file.getLong(16);
+        long columnsOffset = file.getLong(24);
+        this.idBlobOffset = file.getLong(32);
+        this.contentBlobOffset = file.getLong(40);
+        long fileLength = file.getLong(48);
+        this.deliveryOrdered = (file.getInt(BinarySnapshotFormat.FLAGS_OFFSET) & BinarySnapshotFormat.FLAG_DELIVERY_ORDERED) != 0;
+
+        if (eventCount < 0 || clientCount < 0) {
+            throw invalid("negative event or client count");
+        }
+        if (fileLength != file.length()) {
+            throw invalid("header declares " + fileLength + " bytes but file has " + file.length());
+        }
+        if (BinarySnapshotFormat.columnsEnd(columnsOffset, eventCount) != idBlobOffset
+                || idBlobOffset > contentBlobOffset
+                || contentBlobOffset > fileLength) {
+            throw invalid("inconsistent section offsets");
+        }
+
+        this.deliveryNanosOffset = BinarySnapshotFormat.deliveryNanosOffset(columnsOffset);
+        this.idOffsetsOffset = BinarySnapshotFormat.idOffsetsOffset(columnsOffset, eventCount);
+        this.contentOffsetsOffset = BinarySnapshotFormat.contentOffsetsOffset(columnsOffset, eventCount);
+        this.clientIndexOffset = BinarySnapshotFormat.clientIndexOffset(columnsOffset, eventCount);
+        this.idHashOffset = BinarySnapshotFormat.idHashOffset(columnsOffset, eventCount);
+        this.statusOffset = BinarySnapshotFormat.statusOffset(columnsOffset, eventCount);
+        this.typeOffset = BinarySnapshotFormat.typeOffset(columnsOffset, eventCount);
+
+        long position = dictionaryOffset;
+
+        int statusCount = file.getInt(position);
+        position += Integer.BYTES;
+        this.statusByCode = new DeliveryStatus[statusCount];
+        for (int code = 0; code < statusCount; code++) {
+            int length = Short.toUnsignedInt(file.getShort(position));
+            statusByCode[code] = DeliveryStatus.valueOf(file.getUtf8(position + Short.BYTES, length));
+            position += Short.BYTES + length;
+        }
+
+        int typeCount = file.getInt(position);
+        position += Integer.BYTES;
+        this.typeByCode = new EventType[typeCount];
+        for (int code = 0; code < typeCount; code++) {
+            int length = Short.toUnsignedInt(file.getShort(position));
+            typeByCode[code] = EventType.valueOf(file.getUtf8(position + Short.BYTES, length));
+            position += Short.BYTES + length;
+        }
+
+        this.clients = new ClientId[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            int length = file.getInt(position);
+            clients[i] = ClientId.of(file.getUtf8(position + Integer.BYTES, length));
+            position += Integer.BYTES + length;
+        }
+
+        if (position != columnsOffset) {
+            throw invalid("dictionary does not end where the columns start");
+        }
+    }
+
+    public static MappedBinaryEventSource open(Path path) {
+        Objects.requireNonNull(path, "path must not be null");
+        try {
+            SnapshotStamp stamp = SnapshotStamp.of(path).orElse(null);
+            return new MappedBinaryEventSource(path, stamp, MappedFile.map(path));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to map binary snapshot: " + path, ex);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IllegalStateException("Invalid binary snapshot: " + path + " (" + ex.getMessage() + ")", ex);
+        }
+    }
+
+    @Override
+    public List<NotificationEvent> loadAll() {
+        return new LazyEventList();
+    }
+
+    @Override
+    public void forEach(Consumer<NotificationEvent> consumer) {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        for (int row = 0; row < eventCount; row++) {
+            consumer.accept(event(row));
+        }
+    }
+
+    @Override
+    public int size() {
+        return eventCount;
+    }
+
+    @Override
+    public ClientId clientId(int row) {
+        return clients[file.getInt(clientIndexOffset + 4L * checkRow(row))];
+    }
+
+    @Override
+    public long deliveryEpochNanos(int row) {
+        return file.getLong(deliveryNanosOffset + 8L * checkRow(row));
+    }
+
+    @Override
+    public DeliveryStatus deliveryStatus(int row) {
+        return statusByCode[Byte.toUnsignedInt(file.getByte(statusOffset + checkRow(row)))];
+    }
+
+    @Override
+    public int eventIdHash(int row) {
+        return file.getInt(idHashOffset + 4L * checkRow(row));
+    }
+
+    @Override
+    public NotificationEventId eventId(int row) {
+        return NotificationEventId.of(blobString(idBlobOffset, idOffsetsOffset, checkRow(row)));
+    }
+
+    @Override
+    public NotificationEvent event(int row) {
+        checkRow(row);
+        return NotificationEvent.of(
+                eventId(row),
+                clientId(row),
+                typeByCode[Byte.toUnsignedInt(file.getByte(typeOffset + row))],
+                blobString(contentBlobOffset, contentOffsetsOffset, row),
+                EpochNanos.toInstant(deliveryEpochNanos(row)),
+                deliveryStatus(row)
+        );
+    }
+
+    @Override
+    public long rowFingerprint(int row) {
+        checkRow(row);
+        return RowFingerprint.of(
+                blobHash(idBlobOffset, idOffsetsOffset, row),
+                file.getInt(clientIndexOffset + 4L * row),
+                deliveryEpochNanos(row),
+                deliveryStatus(row).ordinal(),
+                typeByCode[Byte.toUnsignedInt(file.getByte(typeOffset + row))].ordinal(),
+                blobHash(contentBlobOffset, contentOffsetsOffset, row)
+        );
+    }
+
+    @Override
+    public boolean deliveryOrdered() {
+        return deliveryOrdered;
+    }
+
+    /*
+     * Only the dictionary is decoded onto the heap; the columns and blobs stay in the mapping.
+     */
+    @Override
+    public long estimatedHeapBytes() {
+        long bytes = 256L;
+        for (ClientId client : clients) {
+            bytes += 64L + client.value().length();
+        }
+        return bytes;
+    }
+
+    @Override
+    public Optional<Path> snapshotPath() {
+        return Optional.of(path);
+    }
+
+    @Override
+    public ReloadableEventSource reopen() {
+        return open(path);
+    }
+
+    @Override
+    public Optional<SnapshotStamp> openedStamp() {
+        return Optional.ofNullable(openedStamp);
+    }
+
+    private String blobString(long blobOffset, long offsetsOffset, int row) {
+        long start = file.getLong(offsetsOffset + 8L * row);
+        long end = file.getLong(offsetsOffset + 8L * (row + 1));
+        return file.getUtf8(blobOffset + start, Math.toIntExact(end - start));
+    }
+
+    private long blobHash(long blobOffset, long offsetsOffset, int row) {
+        long start = file.getLong(offsetsOffset + 8L * row);
+        long end = file.getLong(offsetsOffset + 8L * (row + 1));
+        return file.hash(blobOffset + start, end - start);
+    }
+
+    private int checkRow(int row) {
+        return Objects.checkIndex(row, eventCount);
+    }
+
+    private IllegalStateException invalid(String reason) {
+        return new IllegalStateException("Invalid binary snapshot: " + path + " (" + reason + ")");
+    }
+
+    private final class LazyEventList extends AbstractList<NotificationEvent> implements RandomAccess {
+
+        @Override
+        public NotificationEvent get(int index) {
+            return event(index);
+        }
+
+        @Override
+        public int size() {
+            return eventCount;
+        }
+    }
+}
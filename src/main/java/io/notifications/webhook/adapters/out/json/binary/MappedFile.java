@@ -0,0 +1,106 @@
+package io.notifications.webhook.adapters.out.json.binary;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * MappedFile is a read-only memory mapping of a whole file addressed by long offsets.
+ *
+ * A single MappedByteBuffer is limited to 2 GiB, so the file is mapped as consecutive segments. Segments
+ * overlap by a few bytes so that any primitive read starting inside a segment can be served from it
+ * without stitching bytes across buffers. Reads use absolute positions, so a MappedFile is safe to share
+ * between threads.
+ *
+ * The mapped pages live in the OS page cache, not on the Java heap.
+ */
+final class MappedFile {
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_BYTES = 1L << SEGMENT_SHIFT;
+    private static final int SEGMENT_OVERLAP = Long.BYTES;
+
+    private final MappedByteBuffer[] segments;
+    private final long length;
+
+    private MappedFile(MappedByteBuffer[] segments, long length) {
+        this.segments = segments;
+        this.length = length;
+    }
+
+    static MappedFile map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            int segmentCount = (int) Math.max(1, (length + SEGMENT_BYTES - 1) >>> SEGMENT_SHIFT);
+
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long start = (long) i << SEGMENT_SHIFT;
+                long size = Math.min(length - start, SEGMENT_BYTES + SEGMENT_OVERLAP);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.max(0, size));
+            }
+            return new MappedFile(segments, length);
+        }
+    }
+
+    long length() {
+        return length;
+    }
+
+    byte getByte(long position) {
+        return segment(position).get(offset(position));
+    }
+
+    int getInt(long position) {
+        return segment(position).getInt(offset(position));
+    }
+
+    long getLong(long position) {
+        return segment(position).getLong(offset(position));
+    }
+
+    short getShort(long position) {
+        return segment(position).getShort(offset(position));
+    }
+
+    String getUtf8(long position, int byteLength) {
+        return new String(getBytes(position, byteLength), StandardCharsets.UTF_8);
+    }
+
+    byte[] getBytes(long position, int byteLength) {
+        byte[] bytes = new byte[byteLength];
+        int copied = 0;
+        while (copied < byteLength) {
+            long at = position + copied;
+            MappedByteBuffer segment = segment(at);
+            int offset = offset(at);
+            int chunk = Math.min(byteLength - copied, segment.limit() - offset);
+            segment.get(offset, bytes, copied, chunk);
+            copied += chunk;
+        }
+        return bytes;
+    }
+
+    /*
+     * Hashes a byte range without copying it onto the heap (FNV-1a, 64-bit).
+     */
+    long hash(long position, long byteLength) {
+        long h = 0xCBF29CE484222325L;
+        for (long i = 0; i < byteLength; i++) {
+            h ^= getByte(position + i) & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private MappedByteBuffer segment(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offset(long position) {
+        return (int) (position & (SEGMENT_BYTES - 1));
+    }
+}
@@ -0,0 +1,331 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventCursor;
+import io.notifications.webhook.domain.model.NotificationEventFilter;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.model.NotificationEventPage;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/*
+ * ClientEventPartition holds all notification events that belong to a single client.
+ *
+ * Partitions are immutable once built. Queries for a tenant only touch that tenant's partition, and
+ * lookups by NotificationEventId are served from an open-addressing hash index in O(1).
+ *
+ * Events are kept sorted by (deliveryDate, eventId) alongside a primitive array of delivery epoch-nanos.
+ * Rows that are already stored in that order (see EventRows.deliveryOrdered) are taken as they come.
+ * Date range queries binary-search that array for the window bounds and return only the matching slice,
+ * so their cost scales with the result size rather than with the client's history.
+ *
+ * A PositionBitmap per DeliveryStatus records which sorted positions carry that status. Status filters
+ * intersect the bitmap with the time window, so non-matching events are skipped without being touched.
+ *
+ * The partition stores row numbers into an EventRows view rather than the events themselves; aggregates
+ * are materialized only when a result list element is read.
+ *
+ * The partition fingerprint used to detect unchanged partitions on reload is computed on first use only,
+ * so the initial load never pays for it.
+ */
+public final class ClientEventPartition {
+
+    private final ClientId clientId;
+    private final EventRows rows;
+    private final int[] sortedRows;
+    private final long[] deliveryEpochNanos;
+    private final int[] idSlots;
+    private final Map<DeliveryStatus, PositionBitmap> statusBitmaps;
+
+    private long fingerprint;
+    private boolean fingerprinted;
+
+    ClientEventPartition(ClientId clientId, EventRows rows, int[] clientRows) {
+        this.clientId = Objects.requireNonNull(clientId, "clientId must not be null");
+        this.rows = Objects.requireNonNull(rows, "rows must not be null");
+        Objects.requireNonNull(clientRows, "clientRows must not be null");
+
+        this.deliveryEpochNanos = new long[clientRows.length];
+        for (int i = 0; i < clientRows.length; i++) {
+            this.deliveryEpochNanos[i] = rows.deliveryEpochNanos(clientRows[i]);
+        }
+        this.sortedRows = clientRows;
+        if (!rows.deliveryOrdered()) {
+            RowSort.sort(this.sortedRows, this.deliveryEpochNanos, (left, right) -> rows.eventId(left).value().compareTo(rows.eventId(right).value()));
+        }
+
+        this.idSlots = new int[Integer.highestOneBit(Math.max(2, this.sortedRows.length) * 2 - 1) << 1];
+        DeliveryStatus[] statuses = DeliveryStatus.values();
+        int[][] statusPositions = new int[statuses.length][];
+        int[] statusCounts = new int[statuses.length];
+
+        for (int i = 0; i < this.sortedRows.length; i++) {
+            int row = this.sortedRows[i];
+            insertId(i, row);
+
+            int ordinal = rows.deliveryStatus(row).ordinal();
+            if (statusPositions[ordinal] == null) {
+                statusPositions[ordinal] = new int[16];
+            } else if (statusCounts[ordinal] == statusPositions[ordinal].length) {
+                statusPositions[ordinal] = Arrays.copyOf(statusPositions[ordinal], statusCounts[ordinal] * 2);
+            }
+            statusPositions[ordinal][statusCounts[ordinal]++] = i;
+        }
+
+        this.statusBitmaps = new EnumMap<>(DeliveryStatus.class);
+        for (DeliveryStatus status : statuses) {
+            int ordinal = status.ordinal();
+            if (statusCounts[ordinal] > 0) {
+                this.statusBitmaps.put(status, PositionBitmap.of(statusPositions[ordinal], statusCounts[ordinal], this.sortedRows.length));
+            }
+        }
+    }
+
+    public ClientId clientId() {
+        return clientId;
+    }
+
+    public List<NotificationEvent> events() {
+        return new PositionRangeView(0, sortedRows.length);
+    }
+
+    /*
+     * Returns the events matching the filter, in delivery order.
+     *
+     * The date window is resolved by binary search first. Without a status criterion the result is a
+     * read-only view over that window; otherwise the status bitmap is scanned within the window only.
+     */
+    public List<NotificationEvent> find(NotificationEventFilter filter) {
+        Objects.requireNonNull(filter, "filter must not be null");
+
+        int from = windowStart(filter.fromInclusive());
+        int to = windowEnd(filter.toInclusive());
+
+        if (from >= to) {
+            return List.of();
+        }
+
+        if (filter.deliveryStatus().isEmpty()) {
+            return new PositionRangeView(from, to);
+        }
+
+        PositionBitmap bitmap = statusBitmaps.get(filter.deliveryStatus().get());
+        if (bitmap == null) {
+            return List.of();
+        }
+
+        return new PositionListView(bitmap.positionsInRange(from, to));
+    }
+
+    /*
+     * Returns up to limit events matching the filter that sort strictly after the cursor.
+     *
+     * The cursor is resolved by binary search on the time index (then on event ids among equal dates), so a
+     * page costs the same wherever it starts. Status filters scan the bitmap from that position and stop
+     * after limit + 1 matches.
+     */
+    public NotificationEventPage findPage(NotificationEventFilter filter, Optional<NotificationEventCursor> after, int limit) {
+        Objects.requireNonNull(filter, "filter must not be null");
+        Objects.requireNonNull(after, "after must not be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        int from = windowStart(filter.fromInclusive());
+        int to = windowEnd(filter.toInclusive());
+        if (after.isPresent()) {
+            from = Math.max(from, positionAfter(after.get()));
+        }
+
+        if (from >= to) {
+            return NotificationEventPage.last(List.of());
+        }
+
+        if (filter.deliveryStatus().isEmpty()) {
+            int end = (int) Math.min(to, (long) from + limit + 1);
+            return NotificationEventPage.fromLookahead(new PositionRangeView(from, end), limit);
+        }
+
+        PositionBitmap bitmap = statusBitmaps.get(filter.deliveryStatus().get());
+        if (bitmap == null) {
+            return NotificationEventPage.last(List.of());
+        }
+
+        return NotificationEventPage.fromLookahead(new PositionListView(bitmap.positionsInRange(from, to, limit + 1)), limit);
+    }
+
+    public Optional<NotificationEvent> findById(NotificationEventId id) {
+        Objects.requireNonNull(id, "id must not be null");
+
+        int mask = idSlots.length - 1;
+        int hash = id.value().hashCode();
+        for (int slot = mix(hash) & mask; idSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = sortedRows[idSlots[slot] - 1];
+            if (rows.eventIdHash(row) == hash && rows.eventId(row).equals(id)) {
+                return Optional.of(rows.event(row));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return sortedRows.length;
+    }
+
+    /*
+     * Index structures plus, for heap-backed partitions, the partition's own copy of its rows.
+     */
+    long estimatedBytes() {
+        long bytes = 12L * sortedRows.length + 4L * idSlots.length;
+        for (PositionBitmap bitmap : statusBitmaps.values()) {
+            bytes += bitmap.estimatedBytes();
+        }
+        if (rows instanceof ListEventRows) {
+            bytes += rows.estimatedHeapBytes();
+        }
+        return bytes;
+    }
+
+    synchronized long fingerprint() {
+        if (!fingerprinted) {
+            fingerprint = NotificationEventIndex.fingerprint(rows, sortedRows);
+            fingerprinted = true;
+        }
+        return fingerprint;
+    }
+
+    /*
+     * Inserts a sorted position into the id hash index. Duplicate ids keep the first position.
+     */
+    private void insertId(int position, int row) {
+        int mask = idSlots.length - 1;
+        int hash = rows.eventIdHash(row);
+        int slot = mix(hash) & mask;
+        while (idSlots[slot] != 0) {
+            int existingRow = sortedRows[idSlots[slot] - 1];
+            if (rows.eventIdHash(existingRow) == hash && rows.eventId(existingRow).equals(rows.eventId(row))) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        idSlots[slot] = position + 1;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int windowStart(Optional<Instant> fromInclusive) {
+        return fromInclusive.map(instant -> lowerBound(EpochNanos.of(instant))).orElse(0);
+    }
+
+    private int windowEnd(Optional<Instant> toInclusive) {
+        return toInclusive.map(instant -> upperBound(EpochNanos.of(instant))).orElse(sortedRows.length);
+    }
+
+    /*
+     * Returns the first position whose (deliveryDate, eventId) sorts after the cursor.
+     */
+    private int positionAfter(NotificationEventCursor cursor) {
+        long nanos = EpochNanos.of(cursor.deliveryDate());
+        String eventId = cursor.eventId().value();
+
+        int low = lowerBound(nanos);
+        int high = upperBound(nanos);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows.eventId(sortedRows[mid]).value().compareTo(eventId) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Returns the first position whose delivery epoch-nanos is >= value.
+     */
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = deliveryEpochNanos.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (deliveryEpochNanos[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Returns the first position whose delivery epoch-nanos is > value.
+     */
+    private int upperBound(long value) {
+        int low = 0;
+        int high = deliveryEpochNanos.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (deliveryEpochNanos[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private final class PositionRangeView extends AbstractList<NotificationEvent> implements RandomAccess {
+
+        private final int from;
+        private final int to;
+
+        private PositionRangeView(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public NotificationEvent get(int index) {
+            Objects.checkIndex(index, to - from);
+            return rows.event(sortedRows[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    private final class PositionListView extends AbstractList<NotificationEvent> implements RandomAccess {
+
+        private final int[] positions;
+
+        private PositionListView(int[] positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public NotificationEvent get(int index) {
+            return rows.event(sortedRows[positions[index]]);
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+}
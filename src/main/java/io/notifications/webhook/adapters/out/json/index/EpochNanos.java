@@ -0,0 +1,29 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+import java.time.Instant;
+
+/*
+ * EpochNanos converts between instants and the primitive epoch-nanosecond values used by the time-sorted
+ * index and the binary snapshot format.
+ *
+ * A long holds roughly +/- 292 years around 1970. Instants outside that window (e.g. an unbounded
+ * date_from supplied by a caller) saturate to Long.MIN_VALUE / Long.MAX_VALUE so that range comparisons
+ * remain correct without overflowing.
+ */
+public final class EpochNanos {
+
+    private EpochNanos() {
+    }
+
+    public static long of(Instant instant) {
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+        } catch (ArithmeticException ex) {
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    public static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+}
@@ -0,0 +1,57 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventId;
+
+import java.util.List;
+
+/*
+ * EventRows is a random-access, column-oriented view over a snapshot of notification events.
+ *
+ * The index only keeps row numbers and primitive keys; full NotificationEvent aggregates are materialized
+ * through event(row) when a query returns them. This lets the same index sit on top of an in-heap list or
+ * a memory-mapped snapshot whose event data stays off the Java heap.
+ *
+ * eventIdHash must return the String.hashCode of the event id value.
+ */
+public interface EventRows {
+
+    int size();
+
+    ClientId clientId(int row);
+
+    long deliveryEpochNanos(int row);
+
+    DeliveryStatus deliveryStatus(int row);
+
+    int eventIdHash(int row);
+
+    NotificationEventId eventId(int row);
+
+    NotificationEvent event(int row);
+
+    /*
+     * A 64-bit hash over every field of the row, used to detect client partitions that did not change
+     * between two snapshots.
+     */
+    long rowFingerprint(int row);
+
+    /*
+     * Approximate heap retained by the rows themselves, excluding the index built on top of them.
+     */
+    long estimatedHeapBytes();
+
+    /*
+     * True when each client's rows are stored in (deliveryDate, eventId) order, so that partitions can
+     * take them as they come instead of sorting them.
+     */
+    default boolean deliveryOrdered() {
+        return false;
+    }
+
+    static EventRows of(List<NotificationEvent> events) {
+        return new ListEventRows(events);
+    }
+}
@@ -0,0 +1,103 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventId;
+
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * ListEventRows adapts an in-heap list of NotificationEvent aggregates to the EventRows view.
+ *
+ * The retained size is an estimate based on string lengths and typical object overheads, intended for
+ * capacity monitoring rather than exact accounting.
+ */
+final class ListEventRows implements EventRows {
+
+    private static final long EVENT_OVERHEAD_BYTES = 160L;
+
+    private final NotificationEvent[] events;
+    private final long estimatedHeapBytes;
+
+    ListEventRows(List<NotificationEvent> events) {
+        this(Objects.requireNonNull(events, "events must not be null").toArray(NotificationEvent[]::new));
+    }
+
+    private ListEventRows(NotificationEvent[] events) {
+        this.events = events;
+
+        long bytes = 16L + 4L * this.events.length;
+        for (NotificationEvent event : this.events) {
+            Objects.requireNonNull(event, "event must not be null");
+            bytes += EVENT_OVERHEAD_BYTES + event.id().value().length() + event.content().length();
+        }
+        this.estimatedHeapBytes = bytes;
+    }
+
+    @Override
+    public int size() {
+        return events.length;
+    }
+
+    @Override
+    public ClientId clientId(int row) {
+        return events[row].clientId();
+    }
+
+    @Override
+    public long deliveryEpochNanos(int row) {
+        return EpochNanos.of(events[row].deliveryDate());
+    }
+
+    @Override
+    public DeliveryStatus deliveryStatus(int row) {
+        return events[row].deliveryStatus();
+    }
+
+    @Override
+    public int eventIdHash(int row) {
+        return events[row].id().value().hashCode();
+    }
+
+    @Override
+    public NotificationEventId eventId(int row) {
+        return events[row].id();
+    }
+
+    @Override
+    public NotificationEvent event(int row) {
+        return events[row];
+    }
+
+    @Override
+    public long rowFingerprint(int row) {
+        NotificationEvent event = events[row];
+        return RowFingerprint.of(
+                RowFingerprint.hash(event.id().value()),
+                RowFingerprint.hash(event.clientId().value()),
+                EpochNanos.of(event.deliveryDate()),
+                event.deliveryStatus().ordinal(),
+                event.eventType().ordinal(),
+                RowFingerprint.hash(event.content())
+        );
+    }
+
+    @Override
+    public long estimatedHeapBytes() {
+        return estimatedHeapBytes;
+    }
+
+    /*
+     * Returns a copy holding only the given rows, renumbered from 0, so that a partition built on it does
+     * not retain other clients' events.
+     */
+    ListEventRows select(int[] rows) {
+        NotificationEvent[] selected = new NotificationEvent[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            selected[i] = events[rows[i]];
+        }
+        return new ListEventRows(selected);
+    }
+}
@@ -0,0 +1,185 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.NotificationEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+ * NotificationEventIndex is an immutable, load-once in-memory index of notification events.
+ *
+ * Events are partitioned by ClientId so that tenant queries never scan other clients' data, and each
+ * partition keeps a hash index by NotificationEventId for O(1) lookups, a time-sorted index for date
+ * windows and delivery status bitmaps.
+ *
+ * The index is built over an EventRows view and only stores row numbers and primitive keys. The event
+ * data itself lives wherever the rows live: on the heap for the JSON snapshot, or in a memory-mapped file
+ * for the binary snapshot.
+ *
+ * An index can be built against the previous one when a snapshot is reloaded. Client partitions whose
+ * events are unchanged (same size and same fingerprint over every row field) are carried over as-is
+ * instead of being re-sorted and re-indexed. Heap-backed partitions copy their own rows so that a reused
+ * partition never retains other clients' events from an older snapshot.
+ *
+ * The index also reports an approximate retained heap size. It is an estimate based on string lengths
+ * and typical object overheads, intended for capacity monitoring rather than exact accounting.
+ */
+public final class NotificationEventIndex {
+
+    private static final long PARTITION_OVERHEAD_BYTES = 256L;
+
+    private final Map<ClientId, ClientEventPartition> partitions;
+    private final int eventCount;
+    private final int reusedPartitionCount;
+    private final long estimatedBytes;
+
+    private NotificationEventIndex(Map<ClientId, ClientEventPartition> partitions,
+                                   int eventCount,
+                                   int reusedPartitionCount,
+                                   long estimatedBytes) {
+        this.partitions = partitions;
+        this.eventCount = eventCount;
+        this.reusedPartitionCount = reusedPartitionCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public static NotificationEventIndex build(List<NotificationEvent> events) {
+        Objects.requireNonNull(events, "events must not be null");
+        return build(EventRows.of(events));
+    }
+
+    public static NotificationEventIndex build(EventRows rows) {
+        return build(rows, null);
+    }
+
+    /*
+     * Builds an index over the given rows, reusing the unchanged partitions of a previous index when one
+     * is given.
+     */
+    public static NotificationEventIndex build(EventRows rows, NotificationEventIndex previous) {
+        Objects.requireNonNull(rows, "rows must not be null");
+
+        Map<ClientId, RowList> rowsByClient = new HashMap<>();
+        for (int row = 0; row < rows.size(); row++) {
+            rowsByClient.computeIfAbsent(rows.clientId(row), ignored -> new RowList()).add(row);
+        }
+
+        Map<ClientId, ClientEventPartition> partitions = new HashMap<>(Math.max(16, rowsByClient.size() * 4 / 3 + 1));
+        long estimatedBytes = rows instanceof ListEventRows ? 0L : rows.estimatedHeapBytes();
+        int reused = 0;
+
+        for (Map.Entry<ClientId, RowList> entry : rowsByClient.entrySet()) {
+            ClientId clientId = entry.getKey();
+            int[] clientRows = entry.getValue().toArray();
+
+            ClientEventPartition partition = previous == null ? null : previous.partitions.get(clientId);
+            if (partition != null && partition.size() == clientRows.length && partition.fingerprint() == fingerprint(rows, clientRows)) {
+                reused++;
+            } else {
+                partition = newPartition(clientId, rows, clientRows);
+            }
+
+            partitions.put(clientId, partition);
+            estimatedBytes += PARTITION_OVERHEAD_BYTES + partition.estimatedBytes();
+        }
+
+        return new NotificationEventIndex(partitions, rows.size(), reused, estimatedBytes);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Optional<ClientEventPartition> partition(ClientId clientId) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        return Optional.ofNullable(partitions.get(clientId));
+    }
+
+    public int eventCount() {
+        return eventCount;
+    }
+
+    public int clientCount() {
+        return partitions.size();
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /*
+     * Number of partitions carried over unchanged from the previous index this one was built against.
+     */
+    public int reusedPartitionCount() {
+        return reusedPartitionCount;
+    }
+
+    /*
+     * Order-independent combination of row fingerprints, so that it does not depend on the order in which
+     * the snapshot lists a client's events.
+     */
+    static long fingerprint(EventRows rows, int[] rowNumbers) {
+        long sum = 0L;
+        for (int row : rowNumbers) {
+            sum += RowFingerprint.mix(rows.rowFingerprint(row));
+        }
+        return RowFingerprint.mix(sum + rowNumbers.length);
+    }
+
+    private static ClientEventPartition newPartition(ClientId clientId, EventRows rows, int[] clientRows) {
+        if (rows instanceof ListEventRows list) {
+            int[] ownRows = new int[clientRows.length];
+            Arrays.setAll(ownRows, i -> i);
+            return new ClientEventPartition(clientId, list.select(clientRows), ownRows);
+        }
+        return new ClientEventPartition(clientId, rows, clientRows);
+    }
+
+    /*
+     * Builder accumulates events one at a time so that a streaming EventSource can feed the index directly
+     * without an intermediate list of snapshot DTOs.
+     */
+    public static final class Builder {
+
+        private final List<NotificationEvent> events = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(NotificationEvent event) {
+            events.add(Objects.requireNonNull(event, "event must not be null"));
+            return this;
+        }
+
+        public NotificationEventIndex build() {
+            return build(null);
+        }
+
+        public NotificationEventIndex build(NotificationEventIndex previous) {
+            return NotificationEventIndex.build(EventRows.of(events), previous);
+        }
+    }
+
+    private static final class RowList {
+
+        private int[] rows = new int[16];
+        private int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
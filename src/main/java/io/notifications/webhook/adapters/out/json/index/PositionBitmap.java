@@ -0,0 +1,121 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+import java.util.Arrays;
+
+/*
+ * PositionBitmap is an immutable set of positions within a time-sorted client partition.
+ *
+ * It picks the smaller of two encodings when built, similar to the containers of a Roaring bitmap:
+ * - sparse: a sorted int[] of positions, used when the set holds fewer than 1/32 of the positions
+ * - dense: a long[] of bit words
+ *
+ * Range scans are bounded by [fromInclusive, toExclusive) so that they can be intersected with the
+ * window returned by the time index. Sparse sets binary-search the window bounds and only visit the
+ * matching positions; dense sets only visit the words that overlap the window.
+ */
+final class PositionBitmap {
+
+    private static final int SPARSE_RATIO = 32;
+
+    private final int[] positions;
+    private final long[] words;
+    private final int cardinality;
+
+    private PositionBitmap(int[] positions, long[] words, int cardinality) {
+        this.positions = positions;
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    /*
+     * Builds a bitmap from positions given in ascending order, within a universe of the given size.
+     */
+    static PositionBitmap of(int[] sortedPositions, int count, int universeSize) {
+        if (count <= universeSize / SPARSE_RATIO) {
+            return new PositionBitmap(Arrays.copyOf(sortedPositions, count), null, count);
+        }
+
+        long[] words = new long[(universeSize + 63) >>> 6];
+        for (int i = 0; i < count; i++) {
+            int position = sortedPositions[i];
+            words[position >>> 6] |= 1L << position;
+        }
+        return new PositionBitmap(null, words, count);
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    long estimatedBytes() {
+        return positions != null ? 4L * positions.length : 8L * words.length;
+    }
+
+    /*
+     * Returns the positions within [fromInclusive, toExclusive) in ascending order.
+     */
+    int[] positionsInRange(int fromInclusive, int toExclusive) {
+        return positionsInRange(fromInclusive, toExclusive, Integer.MAX_VALUE);
+    }
+
+    /*
+     * Returns at most maxCount positions within [fromInclusive, toExclusive), in ascending order, without
+     * visiting words past the last returned position.
+     */
+    int[] positionsInRange(int fromInclusive, int toExclusive, int maxCount) {
+        if (fromInclusive >= toExclusive || cardinality == 0 || maxCount <= 0) {
+            return new int[0];
+        }
+
+        if (positions != null) {
+            int start = lowerBound(positions, fromInclusive);
+            int end = lowerBound(positions, toExclusive);
+            return Arrays.copyOfRange(positions, start, start + Math.min(end - start, maxCount));
+        }
+
+        int firstWord = fromInclusive >>> 6;
+        int lastWord = (toExclusive - 1) >>> 6;
+
+        int count = 0;
+        for (int w = firstWord; w <= lastWord && count < maxCount; w++) {
+            count += Long.bitCount(maskedWord(w, firstWord, lastWord, fromInclusive, toExclusive));
+        }
+        count = Math.min(count, maxCount);
+
+        int[] result = new int[count];
+        int next = 0;
+        for (int w = firstWord; w <= lastWord && next < count; w++) {
+            long word = maskedWord(w, firstWord, lastWord, fromInclusive, toExclusive);
+            while (word != 0 && next < count) {
+                result[next++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    private long maskedWord(int w, int firstWord, int lastWord, int fromInclusive, int toExclusive) {
+        long word = words[w];
+        if (w == firstWord) {
+            word &= -1L << fromInclusive;
+        }
+        if (w == lastWord) {
+            word &= -1L >>> (63 - ((toExclusive - 1) & 63));
+        }
+        return word;
+    }
+
+    private static int lowerBound(int[] values, int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,50 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+/*
+ * RowFingerprint combines the fields of an event row into a well-mixed 64-bit hash.
+ *
+ * Fingerprints are only compared between snapshots read from the same kind of source, so each EventRows
+ * implementation is free to hash strings the way that is cheapest for it (the chars of a heap String with
+ * hash(String), raw UTF-8 bytes in a mapped file), as long as the string hash is a full 64-bit one: a reload
+ * reuses a partition whose fingerprint matches, so a collision would keep serving stale rows. 32-bit
+ * String.hashCode is not enough ("Aa" and "BB" collide).
+ */
+public final class RowFingerprint {
+
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private RowFingerprint() {
+    }
+
+    public static long of(long idHash, long clientHash, long deliveryEpochNanos, long statusHash, long typeHash, long contentHash) {
+        long h = idHash;
+        h = h * MULTIPLIER + clientHash;
+        h = h * MULTIPLIER + deliveryEpochNanos;
+        h = h * MULTIPLIER + statusHash;
+        h = h * MULTIPLIER + typeHash;
+        h = h * MULTIPLIER + contentHash;
+        return mix(h);
+    }
+
+    /*
+     * Hashes the chars of a string (FNV-1a, 64-bit, one 16-bit char at a time).
+     */
+    public static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    /*
+     * Finalizer from SplitMix64; spreads every input bit across the output.
+     */
+    static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
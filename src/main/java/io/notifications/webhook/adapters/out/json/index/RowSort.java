@@ -0,0 +1,87 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+/*
+ * RowSort orders a partition's row numbers by their delivery epoch-nanos, breaking ties with a row comparator.
+ *
+ * Both arrays are permuted in place. It is a stable bottom-up merge sort over primitive arrays, so large
+ * partitions are sorted without boxing. Already ordered input (e.g. a snapshot compiled in delivery order)
+ * is detected with a single pass and left untouched.
+ *
+ * BinarySnapshotCompiler uses it as well, to write each client's rows already in this order.
+ */
+public final class RowSort {
+
+    @FunctionalInterface
+    public interface TieBreaker {
+
+        int compare(int leftRow, int rightRow);
+    }
+
+    private RowSort() {
+    }
+
+    public static void sort(int[] rows, long[] keys, TieBreaker tieBreaker) {
+        int n = rows.length;
+        if (isSorted(rows, keys, tieBreaker)) {
+            return;
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        int[] buffer = new int[n];
+        for (int width = 1; width < n; width <<= 1) {
+            for (int low = 0; low < n - width; low += width << 1) {
+                int mid = low + width;
+                int high = Math.min(low + (width << 1), n);
+                merge(order, buffer, low, mid, high, rows, keys, tieBreaker);
+            }
+        }
+
+        int[] sortedRows = new int[n];
+        long[] sortedKeys = new long[n];
+        for (int i = 0; i < n; i++) {
+            sortedRows[i] = rows[order[i]];
+            sortedKeys[i] = keys[order[i]];
+        }
+        System.arraycopy(sortedRows, 0, rows, 0, n);
+        System.arraycopy(sortedKeys, 0, keys, 0, n);
+    }
+
+    private static boolean isSorted(int[] rows, long[] keys, TieBreaker tieBreaker) {
+        for (int i = 1; i < rows.length; i++) {
+            if (compare(i - 1, i, rows, keys, tieBreaker) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void merge(int[] order, int[] buffer, int low, int mid, int high,
+                              int[] rows, long[] keys, TieBreaker tieBreaker) {
+        int left = low;
+        int right = mid;
+        int out = low;
+        while (left < mid && right < high) {
+            if (compare(order[left], order[right], rows, keys, tieBreaker) <= 0) {
+                buffer[out++] = order[left++];
+            } else {
+                buffer[out++] = order[right++];
+            }
+        }
+        while (left < mid) {
+            buffer[out++] = order[left++];
+        }
+        while (right < high) {
+            buffer[out++] = order[right++];
+        }
+        System.arraycopy(buffer, low, order, low, high - low);
+    }
+
+    private static int compare(int left, int right, int[] rows, long[] keys, TieBreaker tieBreaker) {
+        int byKey = Long.compare(keys[left], keys[right]);
+        return byKey != 0 ? byKey : tieBreaker.compare(rows[left], rows[right]);
+    }
+}
@@ -0,0 +1,320 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryAttempt;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * CachingDeliveryAttemptRepository decorates a DeliveryAttemptRepository with an in-memory idempotency cache
+ * for findReplayAttemptedAt, so that repeated replays with the same idempotency key do not each query the
+ * database.
+ *
+ * The cache maps (client_id, event_id, correlation_id) to the latest attempted_at. It is filled when attempts
+ * are saved through this repository and when a lookup finds an attempt in the database. Entries expire after
+ * ttl. Once maxEntries is exceeded, expired entries are swept and then arbitrary entries are removed until
+ * the cache is back to 90% of maxEntries. Only attempts that exist are cached, so an entry is never wrong,
+ * only possibly older than the latest attempt.
+ *
+ * With a Bloom filter, a lookup that misses the cache and whose key the filter has never seen returns empty
+ * without querying the database. The filter must therefore know every key in the table: on start it is
+ * warmed up from delivery_attempts on a background thread, and until that completes every miss goes to the
+ * database. Keys written by other processes are not in the filter, so it is only correct when this process
+ * is the only one writing attempts.
+ *
+ * Metrics:
+ * - delivery_attempt_idempotency_cache_requests_total{result=hit|miss}
+ * - delivery_attempt_idempotency_cache_entries
+ * - delivery_attempt_idempotency_bloom_checks_total{result=absent|present}
+ * - delivery_attempt_idempotency_bloom_false_positives_total
+ */
+public final class CachingDeliveryAttemptRepository implements DeliveryAttemptRepository, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingDeliveryAttemptRepository.class);
+
+    private static final int WARM_UP_FETCH_SIZE = 10_000;
+
+    private static final String WARM_UP_SQL = """
+            select client_id, event_id, correlation_id
+              from delivery_attempts
+             where correlation_id is not null
+            """;
+
+    private final DeliveryAttemptRepository delegate;
+    private final int maxEntries;
+    private final long ttlNs;
+    private final ConcurrentMap<ReplayKey, CachedAttempt> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReplayKeyBloomFilter bloomFilter;
+    private final Thread warmUp;
+    private volatile boolean bloomReady;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bloomAbsent;
+    private final Counter bloomPresent;
+    private final Counter bloomFalsePositives;
+
+    /*
+     * Creates a cache without a Bloom filter.
+     */
+    public CachingDeliveryAttemptRepository(
+            DeliveryAttemptRepository delegate,
+            int maxEntries,
+            Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this(delegate, maxEntries, ttl, null, 0L, 0.0, meterRegistry);
+    }
+
+    /*
+     * Creates a cache with a Bloom filter sized for bloomExpectedKeys keys, warmed up from jdbcTemplate.
+     */
+    public CachingDeliveryAttemptRepository(
+            DeliveryAttemptRepository delegate,
+            int maxEntries,
+            Duration ttl,
+            JdbcTemplate jdbcTemplate,
+            long bloomExpectedKeys,
+            double bloomFalsePositiveProbability,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(ttl, "ttl must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNs = ttl.toNanos();
+
+        this.jdbcTemplate = jdbcTemplate;
+        if (jdbcTemplate != null) {
+            this.bloomFilter = new ReplayKeyBloomFilter(bloomExpectedKeys, bloomFalsePositiveProbability);
+            this.warmUp = new Thread(this::warmUp, "delivery-attempt-bloom-warm-up");
+            this.warmUp.setDaemon(true);
+        } else {
+            this.bloomFilter = null;
+            this.warmUp = null;
+        }
+
+        this.hits = Counter.builder("delivery_attempt_idempotency_cache_requests_total")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("delivery_attempt_idempotency_cache_requests_total")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.bloomAbsent = Counter.builder("delivery_attempt_idempotency_bloom_checks_total")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.bloomPresent = Counter.builder("delivery_attempt_idempotency_bloom_checks_total")
+                .tag("result", "present")
+                .register(meterRegistry);
+        this.bloomFalsePositives = Counter.builder("delivery_attempt_idempotency_bloom_false_positives_total")
+                .register(meterRegistry);
+        Gauge.builder("delivery_attempt_idempotency_cache_entries", entries, Map::size).register(meterRegistry);
+    }
+
+    public void start() {
+        if (warmUp != null) {
+            warmUp.start();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (warmUp != null) {
+            warmUp.interrupt();
+        }
+    }
+
+    /*
+     * The attempt is cached before it is written, so a concurrent lookup never misses an attempt that is
+     * already in the database; the entry is removed again if the write fails.
+     */
+    @Override
+    public void save(DeliveryAttempt attempt) {
+        DeliveryAttemptRepository.requireValid(attempt);
+        remember(attempt);
+        try {
+            delegate.save(attempt);
+        } catch (RuntimeException ex) {
+            forget(attempt);
+            throw ex;
+        }
+    }
+
+    @Override
+    public void saveAll(List<DeliveryAttempt> attempts) {
+        Objects.requireNonNull(attempts, "attempts must not be null");
+        attempts.forEach(DeliveryAttemptRepository::requireValid);
+        attempts.forEach(this::remember);
+        try {
+            delegate.saveAll(attempts);
+        } catch (RuntimeException ex) {
+            attempts.forEach(this::forget);
+            throw ex;
+        }
+    }
+
+    @Override
+    public Optional<Instant> findReplayAttemptedAt(ClientId clientId, NotificationEventId eventId, String correlationId) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(eventId, "eventId must not be null");
+        DeliveryAttemptRepository.requireCorrelationId(correlationId);
+
+        ReplayKey key = new ReplayKey(clientId.value(), eventId.value(), correlationId.trim());
+        CachedAttempt cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAtNs() - System.nanoTime() > 0) {
+                hits.increment();
+                return Optional.of(cached.attemptedAt());
+            }
+            entries.remove(key, cached);
+        }
+        misses.increment();
+
+        boolean bloomChecked = bloomReady;
+        if (bloomChecked) {
+            if (!bloomFilter.mightContain(key.clientId(), key.eventId(), key.correlationId())) {
+                bloomAbsent.increment();
+                return Optional.empty();
+            }
+            bloomPresent.increment();
+        }
+
+        Optional<Instant> attemptedAt = delegate.findReplayAttemptedAt(clientId, eventId, correlationId);
+        if (attemptedAt.isPresent()) {
+            put(key, attemptedAt.get());
+        } else if (bloomChecked) {
+            bloomFalsePositives.increment();
+        }
+        return attemptedAt;
+    }
+
+    private void remember(DeliveryAttempt attempt) {
+        ReplayKey key = ReplayKey.of(attempt);
+        if (key == null) {
+            return;
+        }
+        if (bloomFilter != null) {
+            bloomFilter.add(key.clientId(), key.eventId(), key.correlationId());
+        }
+        put(key, attempt.attemptedAt());
+    }
+
+    private void forget(DeliveryAttempt attempt) {
+        ReplayKey key = ReplayKey.of(attempt);
+        if (key != null) {
+            entries.computeIfPresent(key, (k, cached) -> cached.attemptedAt().equals(attempt.attemptedAt()) ? null : cached);
+        }
+    }
+
+    private void put(ReplayKey key, Instant attemptedAt) {
+        CachedAttempt added = new CachedAttempt(attemptedAt, System.nanoTime() + ttlNs);
+        entries.merge(key, added, (current, fresh) -> fresh.attemptedAt().isBefore(current.attemptedAt())
+                ? new CachedAttempt(current.attemptedAt(), fresh.expiresAtNs())
+                : fresh);
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            entries.values().removeIf(cached -> cached.expiresAtNs() - now <= 0);
+            int target = maxEntries - maxEntries / 10;
+            Iterator<ReplayKey> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void warmUp() {
+        long startedAtNs = System.nanoTime();
+        try {
+            long keys = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                // Postgres only streams rows with a fetch size inside a transaction.
+                connection.setAutoCommit(false);
+                try (PreparedStatement ps = connection.prepareStatement(WARM_UP_SQL)) {
+                    ps.setFetchSize(WARM_UP_FETCH_SIZE);
+                    long count = 0;
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                return -1L;
+                            }
+                            bloomFilter.add(rs.getString(1), rs.getString(2), rs.getString(3).trim());
+                            count++;
+                        }
+                    }
+                    return count;
+                } finally {
+                    connection.rollback();
+                    connection.setAutoCommit(autoCommit);
+                }
+            });
+            if (keys < 0) {
+                return;
+            }
+            bloomReady = true;
+            LOG.info(
+                    "delivery_attempt_bloom_ready keys={} bits={} hashes={} duration_ms={}",
+                    keys,
+                    bloomFilter.bitCount(),
+                    bloomFilter.hashCount(),
+                    (System.nanoTime() - startedAtNs) / 1_000_000
+            );
+        } catch (RuntimeException ex) {
+            LOG.warn("delivery_attempt_bloom_warm_up_failed error={}", ex.getMessage(), ex);
+        }
+    }
+
+    private record ReplayKey(String clientId, String eventId, String correlationId) {
+
+        private static ReplayKey of(DeliveryAttempt attempt) {
+            return attempt.correlationId()
+                    .map(String::trim)
+                    .filter(correlationId -> !correlationId.isBlank())
+                    .map(correlationId -> new ReplayKey(attempt.clientId().value(), attempt.eventId().value(), correlationId))
+                    .orElse(null);
+        }
+    }
+
+    private record CachedAttempt(Instant attemptedAt, long expiresAtNs) {
+    }
+}
@@ -7,7 +7,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.Objects;
@@ -18,10 +23,18 @@ import java.util.UUID;
  *
  * The notification events dataset remains immutable and authoritative in JSON. This table stores
  * only metadata for delivery attempts (e.g., replay) as required by the challenge.
+ *
+ * The replay lookup index serves findReplayAttemptedAt: an equality match on (client_id, event_id,
+ * correlation_id) that reads the latest attempted_at straight from the index.
  */
 @Entity
-@Table(name = "delivery_attempts")
-public class DeliveryAttemptEntity {
+@Table(
+        name = "delivery_attempts",
+        indexes = {
+                @Index(name = "idx_delivery_attempts_replay_lookup", columnList = "client_id, event_id, correlation_id, attempted_at DESC")
+        }
+)
+public class DeliveryAttemptEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false, updatable = false)
@@ -59,6 +72,9 @@ public class DeliveryAttemptEntity {
     @Column(name = "correlation_id")
     private String correlationId;
 
+    @Transient
+    private boolean isNew = true;
+
     protected DeliveryAttemptEntity() {
     }
 
@@ -91,10 +107,26 @@ public class DeliveryAttemptEntity {
         this.correlationId = correlationId;
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    /*
+     * Attempts are immutable and carry their own id, so a new entity is always inserted with persist
+     * instead of being merged (which would SELECT the row first).
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getEventId() {
         return eventId;
     }
@@ -0,0 +1,228 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryAttempt;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+ * DeliveryAttemptJdbcRepository is a DeliveryAttemptRepository adapter on plain JDBC.
+ *
+ * Attempts are immutable and carry their own id, so every save is a single INSERT with no persistence context
+ * and no entity mapping. saveAll writes a list either as one JDBC statement batch (sent as multi-row INSERTs
+ * with reWriteBatchedInserts=true) or, in UNNEST mode, as one INSERT ... SELECT FROM unnest(...) statement
+ * that receives each column as an array. The UNNEST form is a single round trip and a single statement
+ * for the server to plan, whatever the batch size.
+ *
+ * findReplayAttemptedAt is served by idx_delivery_attempts_replay_lookup (see DeliveryAttemptEntity). With a
+ * replayLookback, the lookup only considers attempts made within it, which lets Postgres skip the partitions
+ * of a partitioned delivery_attempts table that lie entirely before that bound.
+ */
+public final class DeliveryAttemptJdbcRepository implements DeliveryAttemptRepository {
+
+    public enum BulkMode {
+        BATCH,
+        UNNEST
+    }
+
+    private static final String INSERT_SQL = """
+            insert into delivery_attempts
+                (id, event_id, client_id, target_url, attempt_type, result, http_status, error_message,
+                 attempted_at, duration_ms, correlation_id)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UNNEST_INSERT_SQL = """
+            insert into delivery_attempts
+                (id, event_id, client_id, target_url, attempt_type, result, http_status, error_message,
+                 attempted_at, duration_ms, correlation_id)
+            select id::uuid, event_id, client_id, target_url, attempt_type, result, http_status, error_message,
+                   attempted_at::timestamptz, duration_ms, correlation_id
+              from unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::int4[], ?::text[],
+                          ?::text[], ?::int8[], ?::text[])
+                as t(id, event_id, client_id, target_url, attempt_type, result, http_status, error_message,
+                     attempted_at, duration_ms, correlation_id)
+            """;
+
+    private static final String REPLAY_LOOKUP_SQL = """
+            select attempted_at
+              from delivery_attempts
+             where client_id = ? and event_id = ? and correlation_id = ?
+             order by attempted_at desc
+             limit 1
+            """;
+
+    private static final String REPLAY_LOOKUP_SINCE_SQL = """
+            select attempted_at
+              from delivery_attempts
+             where client_id = ? and event_id = ? and correlation_id = ? and attempted_at >= ?
+             order by attempted_at desc
+             limit 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BulkMode bulkMode;
+    private final Duration replayLookback;
+
+    public DeliveryAttemptJdbcRepository(JdbcTemplate jdbcTemplate, BulkMode bulkMode) {
+        this(jdbcTemplate, bulkMode, Duration.ZERO);
+    }
+
+    /*
+     * replayLookback bounds how far back findReplayAttemptedAt looks; Duration.ZERO means no bound.
+     */
+    public DeliveryAttemptJdbcRepository(JdbcTemplate jdbcTemplate, BulkMode bulkMode, Duration replayLookback) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.bulkMode = Objects.requireNonNull(bulkMode, "bulkMode must not be null");
+        this.replayLookback = Objects.requireNonNull(replayLookback, "replayLookback must not be null");
+        if (replayLookback.isNegative()) {
+            throw new IllegalArgumentException("replayLookback must not be negative");
+        }
+    }
+
+    @Override
+    public void save(DeliveryAttempt attempt) {
+        DeliveryAttemptRepository.requireValid(attempt);
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, attempt));
+    }
+
+    @Override
+    public void saveAll(List<DeliveryAttempt> attempts) {
+        Objects.requireNonNull(attempts, "attempts must not be null");
+        attempts.forEach(DeliveryAttemptRepository::requireValid);
+        if (attempts.isEmpty()) {
+            return;
+        }
+        if (attempts.size() == 1) {
+            save(attempts.getFirst());
+            return;
+        }
+
+        if (bulkMode == BulkMode.UNNEST) {
+            jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> insertUnnest(connection, attempts));
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, attempts.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return attempts.size();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Instant> findReplayAttemptedAt(ClientId clientId, NotificationEventId eventId, String correlationId) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(eventId, "eventId must not be null");
+        DeliveryAttemptRepository.requireCorrelationId(correlationId);
+
+        ResultSetExtractor<Optional<Instant>> latest =
+                rs -> rs.next() ? Optional.of(rs.getTimestamp(1).toInstant()) : Optional.empty();
+        if (replayLookback.isZero()) {
+            return jdbcTemplate.query(REPLAY_LOOKUP_SQL, latest, clientId.value(), eventId.value(), correlationId.trim());
+        }
+        return jdbcTemplate.query(
+                REPLAY_LOOKUP_SINCE_SQL,
+                latest,
+                clientId.value(),
+                eventId.value(),
+                correlationId.trim(),
+                OffsetDateTime.ofInstant(Instant.now().minus(replayLookback), ZoneOffset.UTC)
+        );
+    }
+
+    private static void bind(PreparedStatement ps, DeliveryAttempt attempt) throws SQLException {
+        ps.setObject(1, attempt.id());
+        ps.setString(2, attempt.eventId().value());
+        ps.setString(3, attempt.clientId().value());
+        ps.setString(4, attempt.targetUrl());
+        ps.setString(5, attempt.attemptType().name());
+        ps.setString(6, attempt.result().name());
+        if (attempt.httpStatus().isPresent()) {
+            ps.setInt(7, attempt.httpStatus().get());
+        } else {
+            ps.setNull(7, Types.INTEGER);
+        }
+        ps.setString(8, attempt.errorMessage().orElse(null));
+        ps.setObject(9, OffsetDateTime.ofInstant(attempt.attemptedAt(), ZoneOffset.UTC));
+        ps.setLong(10, attempt.durationMs());
+        ps.setString(11, attempt.correlationId().orElse(null));
+    }
+
+    private static int insertUnnest(Connection connection, List<DeliveryAttempt> attempts) throws SQLException {
+        int size = attempts.size();
+        String[] ids = new String[size];
+        String[] eventIds = new String[size];
+        String[] clientIds = new String[size];
+        String[] targetUrls = new String[size];
+        String[] attemptTypes = new String[size];
+        String[] results = new String[size];
+        Integer[] httpStatuses = new Integer[size];
+        String[] errorMessages = new String[size];
+        String[] attemptedAts = new String[size];
+        Long[] durations = new Long[size];
+        String[] correlationIds = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            DeliveryAttempt attempt = attempts.get(i);
+            ids[i] = attempt.id().toString();
+            eventIds[i] = attempt.eventId().value();
+            clientIds[i] = attempt.clientId().value();
+            targetUrls[i] = attempt.targetUrl();
+            attemptTypes[i] = attempt.attemptType().name();
+            results[i] = attempt.result().name();
+            httpStatuses[i] = attempt.httpStatus().orElse(null);
+            errorMessages[i] = attempt.errorMessage().orElse(null);
+            attemptedAts[i] = attempt.attemptedAt().toString();
+            durations[i] = attempt.durationMs();
+            correlationIds[i] = attempt.correlationId().orElse(null);
+        }
+
+        Array[] arrays = {
+                connection.createArrayOf("text", ids),
+                connection.createArrayOf("text", eventIds),
+                connection.createArrayOf("text", clientIds),
+                connection.createArrayOf("text", targetUrls),
+                connection.createArrayOf("text", attemptTypes),
+                connection.createArrayOf("text", results),
+                connection.createArrayOf("int4", httpStatuses),
+                connection.createArrayOf("text", errorMessages),
+                connection.createArrayOf("text", attemptedAts),
+                connection.createArrayOf("int8", durations),
+                connection.createArrayOf("text", correlationIds)
+        };
+        try (PreparedStatement ps = connection.prepareStatement(UNNEST_INSERT_SQL)) {
+            for (int i = 0; i < arrays.length; i++) {
+                ps.setArray(i + 1, arrays[i]);
+            }
+            return ps.executeUpdate();
+        } finally {
+            for (Array array : arrays) {
+                array.free();
+            }
+        }
+    }
+}
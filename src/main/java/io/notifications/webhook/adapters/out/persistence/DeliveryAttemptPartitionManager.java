@@ -0,0 +1,302 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * DeliveryAttemptPartitionManager keeps delivery_attempts range-partitioned by attempted_at, one partition per
+ * UTC month (delivery_attempts_pYYYYMM).
+ *
+ * On start it makes sure the table is partitioned: a missing table is created as a partitioned table, and a
+ * plain table (as created by Hibernate's schema update) is replaced by a partitioned one in a single
+ * transaction, copying its rows. Postgres requires the partition key in every unique constraint, so the
+ * primary key of the partitioned table is (id, attempted_at).
+ *
+ * Every run then creates the partitions for the current month and the next premakeMonths months, and
+ * detaches and drops the partitions whose whole range is older than the retention. Dropping a partition
+ * removes a month of attempts without the dead tuples and index churn of a bulk DELETE. Runs happen on start
+ * and then every checkInterval, under a Postgres advisory lock so that nodes do not run them concurrently.
+ *
+ * Only partitions following the naming scheme are managed; other partitions are left alone.
+ */
+public final class DeliveryAttemptPartitionManager implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeliveryAttemptPartitionManager.class);
+
+    private static final String TABLE = "delivery_attempts";
+    private static final String LEGACY_TABLE = "delivery_attempts_unpartitioned";
+    private static final String PARTITION_PREFIX = "delivery_attempts_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LOCK_SQL = "select pg_advisory_lock(hashtext('delivery_attempts_partitions'))";
+    private static final String UNLOCK_SQL = "select pg_advisory_unlock(hashtext('delivery_attempts_partitions'))";
+
+    private static final String RELKIND_SQL = "select relkind from pg_class where oid = to_regclass('delivery_attempts')";
+
+    private static final String CREATE_PARENT_SQL = """
+            create table delivery_attempts (
+                id uuid not null,
+                event_id varchar(255) not null,
+                client_id varchar(255) not null,
+                target_url varchar(255) not null,
+                attempt_type varchar(255) not null,
+                result varchar(255) not null,
+                http_status integer,
+                error_message varchar(255),
+                attempted_at timestamp(6) with time zone not null,
+                duration_ms bigint not null,
+                correlation_id varchar(255),
+                primary key (id, attempted_at)
+            ) partition by range (attempted_at)
+            """;
+
+    private static final String CREATE_PARENT_LIKE_LEGACY_SQL = """
+            create table delivery_attempts (
+                like delivery_attempts_unpartitioned including defaults including constraints,
+                primary key (id, attempted_at)
+            ) partition by range (attempted_at)
+            """;
+
+    private static final String CREATE_REPLAY_INDEX_SQL = """
+            create index if not exists idx_delivery_attempts_replay_lookup
+                on delivery_attempts (client_id, event_id, correlation_id, attempted_at desc)
+            """;
+
+    private static final String LIST_PARTITIONS_SQL = """
+            select c.relname
+              from pg_inherits i
+              join pg_class c on c.oid = i.inhrelid
+             where i.inhparent = to_regclass('delivery_attempts')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeMonths;
+    private final Duration retention;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService executor;
+
+    private final Counter created;
+    private final Counter dropped;
+
+    public DeliveryAttemptPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            int premakeMonths,
+            Duration retention,
+            Duration checkInterval,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.retention = Objects.requireNonNull(retention, "retention must not be null");
+        this.checkInterval = Objects.requireNonNull(checkInterval, "checkInterval must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (premakeMonths < 1) {
+            throw new IllegalArgumentException("premakeMonths must be positive");
+        }
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("retention must be positive");
+        }
+        if (checkInterval.isNegative() || checkInterval.isZero()) {
+            throw new IllegalArgumentException("checkInterval must be positive");
+        }
+        this.premakeMonths = premakeMonths;
+
+        this.created = Counter.builder("delivery_attempt_partitions_created_total").register(meterRegistry);
+        this.dropped = Counter.builder("delivery_attempt_partitions_dropped_total").register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "delivery-attempt-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /*
+     * Runs maintenance once on the calling thread, so the partitions exist before the first insert, then
+     * schedules it every checkInterval.
+     */
+    public void start() {
+        maintain(Instant.now());
+        long intervalMs = checkInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::maintainSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    void maintain(Instant now) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            execute(connection, LOCK_SQL);
+            try {
+                ensurePartitioned(connection, now);
+                createAhead(connection, now);
+                dropExpired(connection, now);
+            } finally {
+                execute(connection, UNLOCK_SQL);
+            }
+            return null;
+        });
+    }
+
+    private void maintainSafely() {
+        try {
+            maintain(Instant.now());
+        } catch (RuntimeException ex) {
+            LOG.warn("delivery_attempt_partition_maintenance_failed error={}", ex.getMessage(), ex);
+        }
+    }
+
+    private void ensurePartitioned(Connection connection, Instant now) throws SQLException {
+        String relkind = queryString(connection, RELKIND_SQL);
+        if ("p".equals(relkind)) {
+            return;
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (relkind == null) {
+                execute(connection, CREATE_PARENT_SQL);
+                execute(connection, CREATE_REPLAY_INDEX_SQL);
+                createPartitions(connection, YearMonth.from(now.atOffset(ZoneOffset.UTC)), now);
+                connection.commit();
+                LOG.info("delivery_attempt_partitioned_table_created table={}", TABLE);
+                return;
+            }
+
+            execute(connection, "alter table " + TABLE + " rename to " + LEGACY_TABLE);
+            execute(connection, CREATE_PARENT_LIKE_LEGACY_SQL);
+
+            Timestamp oldest = queryTimestamp(connection, "select min(attempted_at) from " + LEGACY_TABLE);
+            Instant from = oldest == null ? now : oldest.toInstant();
+            createPartitions(connection, YearMonth.from(from.atOffset(ZoneOffset.UTC)), now);
+
+            int copied;
+            try (Statement statement = connection.createStatement()) {
+                copied = statement.executeUpdate("insert into " + TABLE + " select * from " + LEGACY_TABLE);
+            }
+            execute(connection, "drop table " + LEGACY_TABLE);
+            execute(connection, CREATE_REPLAY_INDEX_SQL);
+            connection.commit();
+            LOG.info("delivery_attempt_table_partitioned table={} copied_rows={}", TABLE, copied);
+        } catch (SQLException | RuntimeException ex) {
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void createPartitions(Connection connection, YearMonth from, Instant now) throws SQLException {
+        YearMonth last = YearMonth.from(now.atOffset(ZoneOffset.UTC)).plusMonths(premakeMonths);
+        for (YearMonth month = from; !month.isAfter(last); month = month.plusMonths(1)) {
+            createPartition(connection, month);
+        }
+    }
+
+    private void createAhead(Connection connection, Instant now) throws SQLException {
+        List<String> existing = partitions(connection);
+        YearMonth current = YearMonth.from(now.atOffset(ZoneOffset.UTC));
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(partitionName(month))) {
+                createPartition(connection, month);
+            }
+        }
+    }
+
+    private void createPartition(Connection connection, YearMonth month) throws SQLException {
+        String name = partitionName(month);
+        execute(connection, "create table if not exists " + name + " partition of " + TABLE
+                + " for values from ('" + start(month) + "') to ('" + start(month.plusMonths(1)) + "')");
+        created.increment();
+        LOG.info("delivery_attempt_partition_created partition={}", name);
+    }
+
+    private void dropExpired(Connection connection, Instant now) throws SQLException {
+        Instant cutoff = now.minus(retention);
+        for (String name : partitions(connection)) {
+            YearMonth month = monthOf(name);
+            if (month == null || start(month.plusMonths(1)).isAfter(cutoff)) {
+                continue;
+            }
+            execute(connection, "alter table " + TABLE + " detach partition " + name);
+            execute(connection, "drop table " + name);
+            dropped.increment();
+            LOG.info("delivery_attempt_partition_dropped partition={} cutoff={}", name, cutoff);
+        }
+    }
+
+    private static List<String> partitions(Connection connection) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LIST_PARTITIONS_SQL)) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(month);
+    }
+
+    private static YearMonth monthOf(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String queryString(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private static Timestamp queryTimestamp(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getTimestamp(1) : null;
+        }
+    }
+}
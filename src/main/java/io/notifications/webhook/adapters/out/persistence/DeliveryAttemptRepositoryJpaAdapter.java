@@ -5,7 +5,9 @@ import io.notifications.webhook.domain.model.DeliveryAttempt;
 import io.notifications.webhook.domain.model.NotificationEventId;
 import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -14,20 +16,48 @@ import java.util.Optional;
  *
  * It translates the domain model into DeliveryAttemptEntity and delegates persistence to a Spring Data repository.
  * It also supports minimal idempotency lookups by returning the attempted_at timestamp for a matching correlation id.
+ * With a replayLookback, the lookup only considers attempts made within it, so it stays partition-prunable when
+ * delivery_attempts is partitioned by attempted_at.
  */
 public final class DeliveryAttemptRepositoryJpaAdapter implements DeliveryAttemptRepository {
 
     private final SpringDataDeliveryAttemptJpaRepository jpaRepository;
+    private final Duration replayLookback;
 
     public DeliveryAttemptRepositoryJpaAdapter(SpringDataDeliveryAttemptJpaRepository jpaRepository) {
+        this(jpaRepository, Duration.ZERO);
+    }
+
+    /*
+     * replayLookback bounds how far back findReplayAttemptedAt looks; Duration.ZERO means no bound.
+     */
+    public DeliveryAttemptRepositoryJpaAdapter(SpringDataDeliveryAttemptJpaRepository jpaRepository, Duration replayLookback) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository, "jpaRepository must not be null");
+        this.replayLookback = Objects.requireNonNull(replayLookback, "replayLookback must not be null");
+        if (replayLookback.isNegative()) {
+            throw new IllegalArgumentException("replayLookback must not be negative");
+        }
     }
 
     @Override
     public void save(DeliveryAttempt attempt) {
         DeliveryAttemptRepository.requireValid(attempt);
+        jpaRepository.save(toEntity(attempt));
+    }
 
-        DeliveryAttemptEntity entity = new DeliveryAttemptEntity(
+    /*
+     * Saves all attempts in one transaction; with hibernate.jdbc.batch_size set, the inserts are sent as JDBC
+     * batches.
+     */
+    @Override
+    public void saveAll(List<DeliveryAttempt> attempts) {
+        Objects.requireNonNull(attempts, "attempts must not be null");
+        attempts.forEach(DeliveryAttemptRepository::requireValid);
+        jpaRepository.saveAll(attempts.stream().map(DeliveryAttemptRepositoryJpaAdapter::toEntity).toList());
+    }
+
+    private static DeliveryAttemptEntity toEntity(DeliveryAttempt attempt) {
+        return new DeliveryAttemptEntity(
                 attempt.id(),
                 attempt.eventId().value(),
                 attempt.clientId().value(),
@@ -40,8 +70,6 @@ public final class DeliveryAttemptRepositoryJpaAdapter implements DeliveryAttemp
                 attempt.durationMs(),
                 attempt.correlationId().orElse(null)
         );
-
-        jpaRepository.save(entity);
     }
 
     @Override
@@ -50,11 +78,21 @@ public final class DeliveryAttemptRepositoryJpaAdapter implements DeliveryAttemp
         Objects.requireNonNull(eventId, "eventId must not be null");
         DeliveryAttemptRepository.requireCorrelationId(correlationId);
 
+        if (replayLookback.isZero()) {
+            return jpaRepository
+                    .findTopByEventIdAndClientIdAndCorrelationIdOrderByAttemptedAtDesc(
+                            eventId.value(),
+                            clientId.value(),
+                            correlationId.trim()
+                    )
+                    .map(DeliveryAttemptEntity::getAttemptedAt);
+        }
         return jpaRepository
-                .findTopByEventIdAndClientIdAndCorrelationIdOrderByAttemptedAtDesc(
+                .findTopByEventIdAndClientIdAndCorrelationIdAndAttemptedAtGreaterThanEqualOrderByAttemptedAtDesc(
                         eventId.value(),
                         clientId.value(),
-                        correlationId.trim()
+                        correlationId.trim(),
+                        Instant.now().minus(replayLookback)
                 )
                 .map(DeliveryAttemptEntity::getAttemptedAt);
     }
@@ -0,0 +1,121 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.notifications.webhook.domain.model.AttemptType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/*
+ * DeliveryAttemptSchemaMigration brings the attempt_type check constraint of delivery_attempts in line with
+ * AttemptType.
+ *
+ * Hibernate creates @Enumerated(STRING) columns with a check constraint listing the enum's values, and its
+ * schema update never changes an existing constraint. A table created before RETRY existed therefore rejects
+ * every RETRY attempt. The partitioned table keeps that constraint too, since it is created from the old
+ * table with "like ... including constraints".
+ *
+ * On start, check constraints on attempt_type that do not allow every AttemptType value are dropped and one
+ * that does is added, in a single transaction under a Postgres advisory lock so that nodes starting together
+ * do not race. Constraints on a partitioned table are dropped from and added to its partitions as well. When
+ * the table does not exist yet, or the constraint is already current, nothing is changed.
+ */
+public final class DeliveryAttemptSchemaMigration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeliveryAttemptSchemaMigration.class);
+
+    private static final String TABLE = "delivery_attempts";
+    private static final String CONSTRAINT = "delivery_attempts_attempt_type_check";
+
+    private static final String LOCK_SQL = "select pg_advisory_xact_lock(hashtext('delivery_attempts_schema'))";
+
+    private static final String CHECK_CONSTRAINTS_SQL = """
+            select conname, pg_get_constraintdef(oid)
+              from pg_constraint
+             where conrelid = to_regclass('delivery_attempts')
+               and contype = 'c'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeliveryAttemptSchemaMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    public void run() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                execute(connection, LOCK_SQL);
+                migrate(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    private void migrate(Connection connection) throws SQLException {
+        List<String> outdated = new ArrayList<>();
+        boolean current = false;
+        try (PreparedStatement ps = connection.prepareStatement(CHECK_CONSTRAINTS_SQL);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String definition = rs.getString(2);
+                if (!definition.contains("attempt_type")) {
+                    continue;
+                }
+                if (allowsEveryAttemptType(definition)) {
+                    current = true;
+                } else {
+                    outdated.add(rs.getString(1));
+                }
+            }
+        }
+        if (outdated.isEmpty()) {
+            return;
+        }
+
+        for (String name : outdated) {
+            execute(connection, "alter table " + TABLE + " drop constraint \"" + name.replace("\"", "\"\"") + "\"");
+            LOG.info("delivery_attempt_constraint_dropped table={} constraint={}", TABLE, name);
+        }
+        if (!current) {
+            execute(connection, "alter table " + TABLE + " add constraint " + CONSTRAINT
+                    + " check (attempt_type in (" + attemptTypes() + "))");
+            LOG.info("delivery_attempt_constraint_added table={} constraint={} values={}", TABLE, CONSTRAINT, attemptTypes());
+        }
+    }
+
+    private static boolean allowsEveryAttemptType(String definition) {
+        return Arrays.stream(AttemptType.values()).allMatch(type -> definition.contains("'" + type.name() + "'"));
+    }
+
+    private static String attemptTypes() {
+        return Arrays.stream(AttemptType.values())
+                .map(type -> "'" + type.name() + "'")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/*
+ * DeliveryOutboxEntity is the JPA representation of a pending webhook delivery in the delivery_outbox table.
+ *
+ * Rows are written and claimed through DeliveryOutboxJdbcRepository; the entity exists so that the table and
+ * its indexes are managed with the rest of the schema. Only identifiers are stored: the event itself is read
+ * from the notification event repository at delivery time.
+ *
+ * available_at is the earliest time a row may be claimed. Claiming a row pushes it forward by the lease
+ * duration, so a row whose worker died becomes claimable again once the lease has expired.
+ *
+ * The unique constraint makes enqueueing idempotent for a correlation id. Rows without a correlation id
+ * never conflict, since Postgres treats NULLs as distinct.
+ */
+@Entity
+@Table(
+        name = "delivery_outbox",
+        indexes = {
+                @Index(name = "idx_delivery_outbox_available_at", columnList = "available_at")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_delivery_outbox_correlation", columnNames = {"client_id", "event_id", "correlation_id"})
+        }
+)
+public class DeliveryOutboxEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "client_id", nullable = false)
+    private String clientId;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "correlation_id")
+    private String correlationId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "claim_count", nullable = false)
+    private int claimCount;
+
+    protected DeliveryOutboxEntity() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getAvailableAt() {
+        return availableAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public int getClaimCount() {
+        return claimCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeliveryOutboxEntity that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
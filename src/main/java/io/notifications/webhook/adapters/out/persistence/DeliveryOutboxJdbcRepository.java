@@ -0,0 +1,126 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryJob;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+ * DeliveryOutboxJdbcRepository reads and writes the delivery_outbox table with plain JDBC.
+ *
+ * Claiming is a single UPDATE over a sub-select that locks candidate rows with FOR UPDATE SKIP LOCKED, so
+ * concurrent workers on any number of nodes each get a disjoint batch without waiting on one another. The
+ * claim moves available_at forward by the lease; complete() deletes the row only while the caller still
+ * owns it.
+ */
+public final class DeliveryOutboxJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into delivery_outbox
+                (id, client_id, event_id, correlation_id, created_at, available_at, claim_count)
+            values (?, ?, ?, ?, now(), now(), 0)
+            on conflict (client_id, event_id, correlation_id) do nothing
+            """;
+
+    private static final String CLAIM_SQL = """
+            update delivery_outbox o
+               set claimed_by = ?,
+                   claim_count = o.claim_count + 1,
+                   available_at = now() + make_interval(secs => ?)
+             where o.id in (
+                   select id from delivery_outbox
+                    where available_at <= now()
+                    order by available_at
+                    limit ?
+                    for update skip locked)
+            returning o.id, o.client_id, o.event_id, o.correlation_id, o.created_at, o.claim_count
+            """;
+
+    private static final String COMPLETE_SQL = "delete from delivery_outbox where id = ? and claimed_by = ?";
+
+    private static final String RELEASE_SQL = """
+            update delivery_outbox
+               set available_at = now(), claimed_by = null
+             where claimed_by = ? and available_at > now()
+            """;
+
+    private static final RowMapper<ClaimedDelivery> CLAIMED_DELIVERY_MAPPER = (rs, rowNum) -> new ClaimedDelivery(
+            rs.getObject("id", UUID.class),
+            ClientId.of(rs.getString("client_id")),
+            NotificationEventId.of(rs.getString("event_id")),
+            Optional.ofNullable(rs.getString("correlation_id")),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getInt("claim_count")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeliveryOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    /*
+     * Inserts a row for the job and returns false when an identical correlated job is already pending.
+     */
+    public boolean enqueue(DeliveryJob job) {
+        Objects.requireNonNull(job, "job must not be null");
+        int inserted = jdbcTemplate.update(
+                INSERT_SQL,
+                UUID.randomUUID(),
+                job.clientId().value(),
+                job.notificationEvent().id().value(),
+                job.correlationId().orElse(null)
+        );
+        return inserted == 1;
+    }
+
+    public List<ClaimedDelivery> claim(String owner, int batchSize, Duration lease) {
+        requireOwner(owner);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        Objects.requireNonNull(lease, "lease must not be null");
+        return jdbcTemplate.query(CLAIM_SQL, CLAIMED_DELIVERY_MAPPER, owner, lease.toMillis() / 1000.0, batchSize);
+    }
+
+    /*
+     * Deletes a claimed row. Returns false if the lease was lost and the row now belongs to another worker.
+     */
+    public boolean complete(UUID id, String owner) {
+        Objects.requireNonNull(id, "id must not be null");
+        requireOwner(owner);
+        return jdbcTemplate.update(COMPLETE_SQL, id, owner) == 1;
+    }
+
+    /*
+     * Makes every row still leased by owner claimable again, e.g. on shutdown.
+     */
+    public int release(String owner) {
+        requireOwner(owner);
+        return jdbcTemplate.update(RELEASE_SQL, owner);
+    }
+
+    private static void requireOwner(String owner) {
+        if (owner == null || owner.isBlank()) {
+            throw new IllegalArgumentException("owner must not be blank");
+        }
+    }
+
+    public record ClaimedDelivery(
+            UUID id,
+            ClientId clientId,
+            NotificationEventId eventId,
+            Optional<String> correlationId,
+            Instant createdAt,
+            int claimCount
+    ) {
+    }
+}
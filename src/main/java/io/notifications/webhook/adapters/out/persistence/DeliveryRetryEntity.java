@@ -0,0 +1,93 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/*
+ * DeliveryRetryEntity is the JPA representation of a scheduled automatic retry in the delivery_retries table.
+ *
+ * Rows are written through DeliveryRetryJdbcRepository; the entity exists so that the table and its index are
+ * managed with the rest of the schema. attempt is the number of the delivery attempt the row will perform
+ * (2 for the first retry) and due_at when it should run.
+ */
+@Entity
+@Table(
+        name = "delivery_retries",
+        indexes = {
+                @Index(name = "idx_delivery_retries_due_at", columnList = "due_at")
+        }
+)
+public class DeliveryRetryEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "client_id", nullable = false)
+    private String clientId;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "correlation_id")
+    private String correlationId;
+
+    @Column(name = "attempt", nullable = false)
+    private int attempt;
+
+    @Column(name = "due_at", nullable = false)
+    private Instant dueAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected DeliveryRetryEntity() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public Instant getDueAt() {
+        return dueAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeliveryRetryEntity that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
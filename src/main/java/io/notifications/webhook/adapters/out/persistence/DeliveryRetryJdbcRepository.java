@@ -0,0 +1,151 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/*
+ * DeliveryRetryJdbcRepository persists the pending automatic retries in the delivery_retries table.
+ *
+ * The in-memory timing wheel is the scheduler; this table only makes its contents durable. Any node may load
+ * the table on startup, so a retry is claimed before it runs: the claim pushes due_at forward by a lease,
+ * guarded by the attempt number and the row still being due, and only one node can win it. A node that dies
+ * while holding a claim leaves the row to be picked up after the lease by the next node to start.
+ */
+public final class DeliveryRetryJdbcRepository {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private static final String INSERT_SQL = """
+            insert into delivery_retries (id, client_id, event_id, correlation_id, attempt, due_at, created_at)
+            values (?, ?, ?, ?, ?, ?, now())
+            """;
+
+    private static final String CLAIM_SQL = """
+            update delivery_retries
+               set due_at = ?
+             where id = ? and attempt = ? and due_at <= ?
+            """;
+
+    private static final String RESCHEDULE_SQL = "update delivery_retries set attempt = ?, due_at = ? where id = ?";
+
+    private static final String DELETE_SQL = "delete from delivery_retries where id = ?";
+
+    private static final String LOAD_SQL = """
+            select id, client_id, event_id, correlation_id, attempt, due_at
+              from delivery_retries
+             where id > ?
+             order by id
+             limit ?
+            """;
+
+    private static final String OVERDUE_SQL = """
+            select id, client_id, event_id, correlation_id, attempt, due_at
+              from delivery_retries
+             where due_at <= ?
+             order by due_at
+             limit ?
+            """;
+
+    private static final RowMapper<PendingRetry> PENDING_RETRY_MAPPER = (rs, rowNum) -> new PendingRetry(
+            rs.getObject("id", UUID.class),
+            ClientId.of(rs.getString("client_id")),
+            NotificationEventId.of(rs.getString("event_id")),
+            Optional.ofNullable(rs.getString("correlation_id")),
+            rs.getInt("attempt"),
+            rs.getTimestamp("due_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeliveryRetryJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    public void insert(PendingRetry retry) {
+        Objects.requireNonNull(retry, "retry must not be null");
+        jdbcTemplate.update(
+                INSERT_SQL,
+                retry.id(),
+                retry.clientId().value(),
+                retry.eventId().value(),
+                retry.correlationId().orElse(null),
+                retry.attempt(),
+                utc(retry.dueAt())
+        );
+    }
+
+    /*
+     * Claims a due retry for execution until leaseUntil. Returns false if another node claimed or finished it.
+     */
+    public boolean claim(PendingRetry retry, Instant now, Instant leaseUntil) {
+        Objects.requireNonNull(retry, "retry must not be null");
+        return jdbcTemplate.update(CLAIM_SQL, utc(leaseUntil), retry.id(), retry.attempt(), utc(now)) == 1;
+    }
+
+    public void reschedule(UUID id, int attempt, Instant dueAt) {
+        jdbcTemplate.update(RESCHEDULE_SQL, attempt, utc(dueAt), Objects.requireNonNull(id, "id must not be null"));
+    }
+
+    public void delete(UUID id) {
+        jdbcTemplate.update(DELETE_SQL, Objects.requireNonNull(id, "id must not be null"));
+    }
+
+    /*
+     * Streams every pending retry in pages, so recovery does not hold the whole table in memory at once.
+     */
+    public long forEachPending(Consumer<PendingRetry> consumer) {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+
+        long loaded = 0;
+        UUID after = new UUID(0L, 0L);
+        while (true) {
+            List<PendingRetry> page = jdbcTemplate.query(LOAD_SQL, PENDING_RETRY_MAPPER, after, LOAD_PAGE_SIZE);
+            page.forEach(consumer);
+            loaded += page.size();
+            if (page.size() < LOAD_PAGE_SIZE) {
+                return loaded;
+            }
+            after = page.getLast().id();
+        }
+    }
+
+    /*
+     * Returns up to limit retries that were due at or before dueBefore, oldest first. Rows whose claim lease
+     * has run out are included, since a claim moves due_at to the end of the lease.
+     */
+    public List<PendingRetry> findOverdue(Instant dueBefore, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return jdbcTemplate.query(OVERDUE_SQL, PENDING_RETRY_MAPPER, utc(dueBefore), limit);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(Objects.requireNonNull(instant, "instant must not be null"), ZoneOffset.UTC);
+    }
+
+    public record PendingRetry(
+            UUID id,
+            ClientId clientId,
+            NotificationEventId eventId,
+            Optional<String> correlationId,
+            int attempt,
+            Instant dueAt
+    ) {
+
+        public PendingRetry withAttempt(int nextAttempt, Instant nextDueAt) {
+            return new PendingRetry(id, clientId, eventId, correlationId, nextAttempt, nextDueAt);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * MpscRingBuffer is a bounded, lock-free queue for many producers and a single consumer.
+ *
+ * Producers claim a sequence number with a CAS on the tail and then publish their element into the slot;
+ * the consumer treats an empty slot at the head as "not published yet" and stops there, so elements are
+ * consumed in claim order. A full buffer makes offer return false instead of blocking.
+ *
+ * drainTo must only be called from one thread at a time.
+ */
+final class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    MpscRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    boolean offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("element must not be null");
+        }
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.set((int) claimed & mask, element);
+                return true;
+            }
+        }
+    }
+
+    int drainTo(List<T> target, int maxElements) {
+        long current = head.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) current & mask;
+            T element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.set(index, null);
+            target.add(element);
+            current++;
+            drained++;
+            head.set(current);
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
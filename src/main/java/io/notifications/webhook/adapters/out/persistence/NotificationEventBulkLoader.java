@@ -0,0 +1,168 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.ports.out.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * NotificationEventBulkLoader streams an EventSource into the notification_events table with batched
+ * JDBC upserts, bypassing JPA entirely.
+ *
+ * Events are buffered up to batchSize and written with a single INSERT ... ON CONFLICT (event_id) DO UPDATE
+ * statement batch, so there is no SELECT per row and no persistence context. Rows whose values did not
+ * change are skipped by the conflict clause, which makes re-running the load cheap and idempotent. With
+ * reWriteBatchedInserts=true on the JDBC URL the driver sends each batch as multi-row INSERTs.
+ *
+ * Duplicate event ids inside one batch are collapsed (last one wins) because Postgres rejects an upsert
+ * that touches the same row twice in one statement.
+ *
+ * Metrics:
+ * - notification_event_bulk_load_events_total
+ * - notification_event_bulk_load_batch_seconds
+ * - notification_event_bulk_load_seconds
+ */
+public final class NotificationEventBulkLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationEventBulkLoader.class);
+
+    private static final String UPSERT_SQL = """
+            insert into notification_events
+                (event_id, client_id, event_type, content, delivery_date, delivery_status)
+            values (?, ?, ?, ?, ?, ?)
+            on conflict (event_id) do update set
+                client_id = excluded.client_id,
+                event_type = excluded.event_type,
+                content = excluded.content,
+                delivery_date = excluded.delivery_date,
+                delivery_status = excluded.delivery_status
+            where (notification_events.client_id, notification_events.event_type, notification_events.content,
+                   notification_events.delivery_date, notification_events.delivery_status)
+                  is distinct from
+                  (excluded.client_id, excluded.event_type, excluded.content,
+                   excluded.delivery_date, excluded.delivery_status)
+            """;
+
+    private static final int PROGRESS_LOG_EVERY_BATCHES = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Counter loadedEvents;
+    private final Timer batchTimer;
+    private final Timer loadTimer;
+
+    public NotificationEventBulkLoader(JdbcTemplate jdbcTemplate, int batchSize, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+
+        MeterRegistry registry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.loadedEvents = Counter.builder("notification_event_bulk_load_events_total").register(registry);
+        this.batchTimer = Timer.builder("notification_event_bulk_load_batch_seconds").register(registry);
+        this.loadTimer = Timer.builder("notification_event_bulk_load_seconds").register(registry);
+    }
+
+    /*
+     * Loads every event of the source and returns the number of events read.
+     */
+    public long load(EventSource eventSource) {
+        Objects.requireNonNull(eventSource, "eventSource must not be null");
+
+        long startedAtNs = System.nanoTime();
+        Progress progress = new Progress(startedAtNs);
+        Map<String, NotificationEvent> batch = new LinkedHashMap<>();
+
+        eventSource.forEach(event -> {
+            batch.put(event.id().value(), event);
+            progress.read++;
+            if (batch.size() == batchSize) {
+                flush(batch, progress);
+            }
+        });
+        flush(batch, progress);
+
+        long elapsedNs = System.nanoTime() - startedAtNs;
+        loadTimer.record(elapsedNs, TimeUnit.NANOSECONDS);
+        LOG.info(
+                "notification_event_bulk_load_completed events={} batches={} duration_ms={} events_per_second={}",
+                progress.read,
+                progress.batches,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNs),
+                progress.eventsPerSecond(System.nanoTime())
+        );
+        return progress.read;
+    }
+
+    private void flush(Map<String, NotificationEvent> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<NotificationEvent> events = new ArrayList<>(batch.values());
+        batch.clear();
+
+        batchTimer.record(() -> jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NotificationEvent event = events.get(i);
+                ps.setString(1, event.id().value());
+                ps.setString(2, event.clientId().value());
+                ps.setString(3, event.eventType().name());
+                ps.setString(4, event.content());
+                ps.setObject(5, OffsetDateTime.ofInstant(event.deliveryDate(), ZoneOffset.UTC));
+                ps.setString(6, event.deliveryStatus().name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        }));
+
+        loadedEvents.increment(events.size());
+        progress.batches++;
+
+        if (progress.batches % PROGRESS_LOG_EVERY_BATCHES == 0) {
+            LOG.info(
+                    "notification_event_bulk_load_progress events={} batches={} events_per_second={}",
+                    progress.read,
+                    progress.batches,
+                    progress.eventsPerSecond(System.nanoTime())
+            );
+        }
+    }
+
+    private static final class Progress {
+
+        private final long startedAtNs;
+        private long read;
+        private long batches;
+
+        private Progress(long startedAtNs) {
+            this.startedAtNs = startedAtNs;
+        }
+
+        private long eventsPerSecond(long nowNs) {
+            long elapsedNs = Math.max(1L, nowNs - startedAtNs);
+            return read * 1_000_000_000L / elapsedNs;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import java.time.Instant;
@@ -16,9 +17,19 @@ import java.util.Objects;
  * NotificationEventEntity is the JPA representation of the NotificationEvent aggregate.
  * It mirrors the domain structure and persists domain enums using EnumType.STRING
  * to preserve readability and avoid ordinal coupling.
+ *
+ * The composite indexes back the per-client queries: date windows use (client_id, delivery_date) and
+ * status filters use (client_id, delivery_status, delivery_date). event_id is appended to both so that the
+ * (delivery_date, event_id) ordering and keyset cursor are served from the index without a sort.
  */
 @Entity
-@Table(name = "notification_events")
+@Table(
+        name = "notification_events",
+        indexes = {
+                @Index(name = "idx_notification_events_client_date", columnList = "client_id, delivery_date, event_id"),
+                @Index(name = "idx_notification_events_client_status_date", columnList = "client_id, delivery_status, delivery_date, event_id")
+        }
+)
 public class NotificationEventEntity {
 
     @Id
@@ -2,29 +2,53 @@ package io.notifications.webhook.adapters.out.persistence;
 
 import io.notifications.webhook.domain.model.ClientId;
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventCursor;
 import io.notifications.webhook.domain.model.NotificationEventFilter;
 import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.model.NotificationEventPage;
 import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /*
  * NotificationEventRepositoryJpaAdapter is the persistence adapter that bridges
- * the NotificationEventRepository domain port with Spring Data JPA.
+ * the NotificationEventRepository domain port with JPA.
  *
  * It enforces client isolation at the persistence level and performs
  * translation between domain aggregates and JPA entities.
+ *
+ * Reads translate the NotificationEventFilter into a single parameterized JPQL query that only carries
+ * the predicates the filter actually sets (date bounds, status, keyset cursor), ordered by
+ * (delivery_date, event_id) and limited when paging. Leaving absent predicates out entirely lets the
+ * planner pick the (client_id, delivery_date) or (client_id, delivery_status, delivery_date) index.
+ * Rows are selected into NotificationEventRow projections, never managed entities.
+ *
+ * Pages use keyset pagination: the cursor becomes a (deliveryDate, eventId) lower bound and limit + 1
+ * rows are fetched, so the database never skips over earlier pages.
  */
 public class NotificationEventRepositoryJpaAdapter implements NotificationEventRepository {
 
+    private static final String SELECT_ROW = """
+            select new io.notifications.webhook.adapters.out.persistence.NotificationEventRow(
+                e.eventId, e.clientId, e.eventType, e.content, e.deliveryDate, e.deliveryStatus)
+            from NotificationEventEntity e
+            """;
+
     private final SpringDataNotificationEventJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
     public NotificationEventRepositoryJpaAdapter(
-            SpringDataNotificationEventJpaRepository jpaRepository
+            SpringDataNotificationEventJpaRepository jpaRepository,
+            EntityManager entityManager
     ) {
-        this.jpaRepository = jpaRepository;
+        this.jpaRepository = Objects.requireNonNull(jpaRepository, "jpaRepository must not be null");
+        this.entityManager = Objects.requireNonNull(entityManager, "entityManager must not be null");
     }
 
     @Override
@@ -32,11 +56,32 @@ public class NotificationEventRepositoryJpaAdapter implements NotificationEventR
             ClientId clientId,
             NotificationEventFilter filter
     ) {
-        return jpaRepository.findByClientId(clientId.value())
+        return query(clientId, filter, Optional.empty())
+                .getResultList()
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public NotificationEventPage findPageByClientId(
+            ClientId clientId,
+            NotificationEventFilter filter,
+            Optional<NotificationEventCursor> after,
+            int limit
+    ) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        List<NotificationEvent> events = query(clientId, filter, after)
+                .setMaxResults(limit + 1)
+                .getResultList()
                 .stream()
                 .map(this::toDomain)
-                .filter(event -> matchesFilter(event, filter))
-                .collect(Collectors.toList());
+                .toList();
+
+        return NotificationEventPage.fromLookahead(events, limit);
     }
 
     @Override
@@ -44,8 +89,15 @@ public class NotificationEventRepositoryJpaAdapter implements NotificationEventR
             ClientId clientId,
             NotificationEventId id
     ) {
-        return jpaRepository.findById(id.value())
-                .filter(entity -> entity.getClientId().equals(clientId.value()))
+        return entityManager.createQuery(
+                        SELECT_ROW + "where e.eventId = :eventId and e.clientId = :clientId",
+                        NotificationEventRow.class
+                )
+                .setParameter("eventId", id.value())
+                .setParameter("clientId", clientId.value())
+                .getResultList()
+                .stream()
+                .findFirst()
                 .map(this::toDomain);
     }
 
@@ -54,36 +106,53 @@ public class NotificationEventRepositoryJpaAdapter implements NotificationEventR
         jpaRepository.save(toEntity(notificationEvent));
     }
 
-    private boolean matchesFilter(
-            NotificationEvent event,
-            NotificationEventFilter filter
+    private TypedQuery<NotificationEventRow> query(
+            ClientId clientId,
+            NotificationEventFilter filter,
+            Optional<NotificationEventCursor> after
     ) {
-        if (filter.deliveryStatus().isPresent()
-                && !event.deliveryStatus().equals(filter.deliveryStatus().get())) {
-            return false;
-        }
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        Objects.requireNonNull(after, "after must not be null");
 
-        if (filter.fromInclusive().isPresent()
-                && event.deliveryDate().isBefore(filter.fromInclusive().get())) {
-            return false;
-        }
+        StringBuilder jpql = new StringBuilder(SELECT_ROW).append("where e.clientId = :clientId");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("clientId", clientId.value());
 
-        if (filter.toInclusive().isPresent()
-                && event.deliveryDate().isAfter(filter.toInclusive().get())) {
-            return false;
-        }
+        filter.deliveryStatus().ifPresent(status -> {
+            jpql.append(" and e.deliveryStatus = :deliveryStatus");
+            parameters.put("deliveryStatus", status);
+        });
+        filter.fromInclusive().ifPresent(from -> {
+            jpql.append(" and e.deliveryDate >= :fromInclusive");
+            parameters.put("fromInclusive", from);
+        });
+        filter.toInclusive().ifPresent(to -> {
+            jpql.append(" and e.deliveryDate <= :toInclusive");
+            parameters.put("toInclusive", to);
+        });
+        after.ifPresent(cursor -> {
+            jpql.append(" and (e.deliveryDate > :afterDeliveryDate")
+                    .append(" or (e.deliveryDate = :afterDeliveryDate and e.eventId > :afterEventId))");
+            parameters.put("afterDeliveryDate", cursor.deliveryDate());
+            parameters.put("afterEventId", cursor.eventId().value());
+        });
+
+        jpql.append(" order by e.deliveryDate asc, e.eventId asc");
 
-        return true;
+        TypedQuery<NotificationEventRow> query = entityManager.createQuery(jpql.toString(), NotificationEventRow.class);
+        parameters.forEach(query::setParameter);
+        return query;
     }
 
-    private NotificationEvent toDomain(NotificationEventEntity entity) {
+    private NotificationEvent toDomain(NotificationEventRow row) {
         return NotificationEvent.of(
-                NotificationEventId.of(entity.getEventId()),
-                ClientId.of(entity.getClientId()),
-                entity.getEventType(),
-                entity.getContent(),
-                entity.getDeliveryDate(),
-                entity.getDeliveryStatus()
+                NotificationEventId.of(row.eventId()),
+                ClientId.of(row.clientId()),
+                row.eventType(),
+                row.content(),
+                row.deliveryDate(),
+                row.deliveryStatus()
         );
     }
 
@@ -97,4 +166,4 @@ public class NotificationEventRepositoryJpaAdapter implements NotificationEventR
                 event.deliveryStatus()
         );
     }
-}
\ No newline at end of file
+}
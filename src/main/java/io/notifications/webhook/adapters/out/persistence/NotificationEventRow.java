@@ -0,0 +1,22 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.EventType;
+
+import java.time.Instant;
+
+/*
+ * NotificationEventRow is a read-only JPQL constructor projection of the notification_events table.
+ *
+ * Query results are mapped straight into this record, so rows are never hydrated as managed entities
+ * and never enter the persistence context.
+ */
+public record NotificationEventRow(
+        String eventId,
+        String clientId,
+        EventType eventType,
+        String content,
+        Instant deliveryDate,
+        DeliveryStatus deliveryStatus
+) {
+}
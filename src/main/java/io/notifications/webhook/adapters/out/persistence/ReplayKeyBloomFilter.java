@@ -0,0 +1,103 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * ReplayKeyBloomFilter records which (client_id, event_id, correlation_id) keys have delivery attempts.
+ *
+ * mightContain never returns false for a key that was added; it returns true for a key that was not added
+ * with about the configured false-positive probability, as long as no more than expectedKeys keys were added
+ * (beyond that the probability grows, but the filter stays correct). Keys cannot be removed.
+ *
+ * Bits live in an AtomicLongArray and are set with a CAS, so add and mightContain are safe from any thread
+ * without locking. Both hash the three strings in place (FNV-1a, then a 64-bit finalizer) and derive the k
+ * bit positions by double hashing; they allocate nothing.
+ */
+final class ReplayKeyBloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    ReplayKeyBloomFilter(long expectedKeys, double falsePositiveProbability) {
+        if (expectedKeys < 1) {
+            throw new IllegalArgumentException("expectedKeys must be positive");
+        }
+        if (falsePositiveProbability <= 0.0 || falsePositiveProbability >= 1.0) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        long wordCount = Math.max(1, (bits + 63) / 64);
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("expectedKeys is too large");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * ln2));
+    }
+
+    void add(String clientId, String eventId, String correlationId) {
+        long hash = hash(clientId, eventId, correlationId);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ GOLDEN_GAMMA) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    boolean mightContain(String clientId, String eventId, String correlationId) {
+        long hash = hash(clientId, eventId, correlationId);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ GOLDEN_GAMMA) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private static long hash(String clientId, String eventId, String correlationId) {
+        long hash = FNV_OFFSET;
+        hash = hash(hash, clientId);
+        hash = hash(hash, eventId);
+        return hash(hash, correlationId);
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Separator, so that ("ab", "c") and ("a", "bc") hash differently.
+        return (hash ^ 0xFFFF) * FNV_PRIME;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
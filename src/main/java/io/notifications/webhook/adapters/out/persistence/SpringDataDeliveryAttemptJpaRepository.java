@@ -2,6 +2,7 @@ package io.notifications.webhook.adapters.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +18,11 @@ public interface SpringDataDeliveryAttemptJpaRepository extends JpaRepository<De
             String clientId,
             String correlationId
     );
+
+    Optional<DeliveryAttemptEntity> findTopByEventIdAndClientIdAndCorrelationIdAndAttemptedAtGreaterThanEqualOrderByAttemptedAtDesc(
+            String eventId,
+            String clientId,
+            String correlationId,
+            Instant attemptedSince
+    );
 }
\ No newline at end of file
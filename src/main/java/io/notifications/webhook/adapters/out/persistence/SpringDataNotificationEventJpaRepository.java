@@ -15,5 +15,4 @@ public interface SpringDataNotificationEventJpaRepository
         extends JpaRepository<NotificationEventEntity, String> {
 
     List<NotificationEventEntity> findByClientId(String clientId);
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,269 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryAttempt;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * WriteBehindDeliveryAttemptRepository decorates a DeliveryAttemptRepository so that save() only enqueues the
+ * attempt; a background thread writes queued attempts with saveAll in batches.
+ *
+ * Attempts are queued in a bounded lock-free ring buffer (MpscRingBuffer). A batch is written once batchSize
+ * attempts are queued or flushInterval has passed since the oldest queued attempt, whichever comes first.
+ * When the buffer is full, save() writes the attempt synchronously on the caller's thread, so callers slow
+ * down to the database's pace instead of dropping data or growing memory.
+ *
+ * Queued attempts stay visible to findReplayAttemptedAt until they are written, so replay idempotency does not
+ * depend on the flush having happened. close() stops the writer and flushes everything still queued.
+ *
+ * A batch that fails as a whole is retried one attempt at a time; attempts that still fail are logged and
+ * counted as dropped.
+ *
+ * Metrics:
+ * - delivery_attempt_write_behind_flush_size
+ * - delivery_attempt_write_behind_flush_seconds
+ * - delivery_attempt_write_behind_buffer_occupancy
+ * - delivery_attempt_write_behind_overflow_total
+ * - delivery_attempt_write_behind_dropped_total
+ */
+public final class WriteBehindDeliveryAttemptRepository implements DeliveryAttemptRepository, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindDeliveryAttemptRepository.class);
+
+    private final DeliveryAttemptRepository delegate;
+    private final MpscRingBuffer<DeliveryAttempt> buffer;
+    private final int batchSize;
+    private final long flushIntervalNs;
+    private final Duration shutdownTimeout;
+    private final ConcurrentMap<PendingKey, Instant> pending = new ConcurrentHashMap<>();
+    private final Thread writer;
+
+    private final DistributionSummary flushSize;
+    private final Timer flushTimer;
+    private final Counter overflow;
+    private final Counter dropped;
+
+    private volatile boolean running = true;
+    private volatile boolean closed;
+
+    public WriteBehindDeliveryAttemptRepository(
+            DeliveryAttemptRepository delegate,
+            int capacity,
+            int batchSize,
+            Duration flushInterval,
+            Duration shutdownTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(flushInterval, "flushInterval must not be null");
+        this.shutdownTimeout = Objects.requireNonNull(shutdownTimeout, "shutdownTimeout must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (capacity < batchSize) {
+            throw new IllegalArgumentException("capacity must be at least batchSize");
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("flushInterval must be positive");
+        }
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNs = flushInterval.toNanos();
+
+        this.flushSize = DistributionSummary.builder("delivery_attempt_write_behind_flush_size").register(meterRegistry);
+        this.flushTimer = Timer.builder("delivery_attempt_write_behind_flush_seconds").register(meterRegistry);
+        this.overflow = Counter.builder("delivery_attempt_write_behind_overflow_total").register(meterRegistry);
+        this.dropped = Counter.builder("delivery_attempt_write_behind_dropped_total").register(meterRegistry);
+        Gauge.builder("delivery_attempt_write_behind_buffer_occupancy", buffer, MpscRingBuffer::size).register(meterRegistry);
+
+        this.writer = new Thread(this::writeLoop, "delivery-attempt-writer");
+        this.writer.setDaemon(true);
+    }
+
+    public void start() {
+        writer.start();
+    }
+
+    @Override
+    public void save(DeliveryAttempt attempt) {
+        DeliveryAttemptRepository.requireValid(attempt);
+
+        PendingKey key = PendingKey.of(attempt);
+        if (key != null) {
+            pending.merge(key, attempt.attemptedAt(), (current, added) -> added.isAfter(current) ? added : current);
+        }
+
+        if (running && buffer.offer(attempt)) {
+            if (closed) {
+                // close() may already have drained the buffer, so the writer is gone and nobody else would.
+                flushRemaining();
+            } else if (buffer.size() >= batchSize) {
+                LockSupport.unpark(writer);
+            }
+            return;
+        }
+
+        overflow.increment();
+        try {
+            delegate.save(attempt);
+        } finally {
+            forget(attempt);
+        }
+    }
+
+    @Override
+    public void saveAll(List<DeliveryAttempt> attempts) {
+        Objects.requireNonNull(attempts, "attempts must not be null");
+        attempts.forEach(this::save);
+    }
+
+    @Override
+    public Optional<Instant> findReplayAttemptedAt(ClientId clientId, NotificationEventId eventId, String correlationId) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(eventId, "eventId must not be null");
+        DeliveryAttemptRepository.requireCorrelationId(correlationId);
+
+        Instant queued = pending.get(new PendingKey(clientId.value(), eventId.value(), correlationId.trim()));
+        if (queued != null) {
+            return Optional.of(queued);
+        }
+        return delegate.findReplayAttemptedAt(clientId, eventId, correlationId);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            LOG.warn("delivery_attempt_write_behind_shutdown_timeout pending={}", buffer.size());
+            return;
+        }
+
+        // Attempts offered while the writer was exiting; saves that land after this drain flush themselves.
+        closed = true;
+        flushRemaining();
+    }
+
+    /*
+     * Attempts stay in the buffer until a batch is written, so the buffer size that save() compares with
+     * batchSize is everything waiting to be written.
+     */
+    private void writeLoop() {
+        List<DeliveryAttempt> batch = new ArrayList<>(batchSize);
+        long oldestQueuedAtNs = 0L;
+        boolean waiting = false;
+
+        while (running || buffer.size() > 0) {
+            int queued = buffer.size();
+            if (queued == 0) {
+                waiting = false;
+                LockSupport.parkNanos(this, flushIntervalNs);
+                continue;
+            }
+            if (!waiting) {
+                waiting = true;
+                oldestQueuedAtNs = System.nanoTime();
+            }
+
+            long waitedNs = System.nanoTime() - oldestQueuedAtNs;
+            if (queued >= batchSize || waitedNs >= flushIntervalNs || !running) {
+                buffer.drainTo(batch, batchSize);
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+                waiting = false;
+                continue;
+            }
+
+            LockSupport.parkNanos(this, flushIntervalNs - waitedNs);
+        }
+    }
+
+    /*
+     * Writes whatever is left in the buffer once the writer has stopped. Synchronized because the buffer
+     * has a single consumer and both close() and late saves call it.
+     */
+    private synchronized void flushRemaining() {
+        List<DeliveryAttempt> remaining = new ArrayList<>();
+        buffer.drainTo(remaining, buffer.capacity());
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private void flush(List<DeliveryAttempt> batch) {
+        long startedAtNs = System.nanoTime();
+        try {
+            delegate.saveAll(List.copyOf(batch));
+        } catch (RuntimeException ex) {
+            LOG.warn("delivery_attempt_write_behind_batch_failed size={} error={}", batch.size(), ex.getMessage(), ex);
+            for (DeliveryAttempt attempt : batch) {
+                saveOne(attempt);
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAtNs, TimeUnit.NANOSECONDS);
+            flushSize.record(batch.size());
+            batch.forEach(this::forget);
+        }
+    }
+
+    private void saveOne(DeliveryAttempt attempt) {
+        try {
+            delegate.save(attempt);
+        } catch (RuntimeException ex) {
+            dropped.increment();
+            LOG.error(
+                    "delivery_attempt_write_behind_dropped attempt_id={} event_id={} client_id={} error={}",
+                    attempt.id(),
+                    attempt.eventId(),
+                    attempt.clientId(),
+                    ex.getMessage(),
+                    ex
+            );
+        }
+    }
+
+    private void forget(DeliveryAttempt attempt) {
+        PendingKey key = PendingKey.of(attempt);
+        if (key != null) {
+            pending.remove(key, attempt.attemptedAt());
+        }
+    }
+
+    private record PendingKey(String clientId, String eventId, String correlationId) {
+
+        private static PendingKey of(DeliveryAttempt attempt) {
+            return attempt.correlationId()
+                    .map(String::trim)
+                    .filter(correlationId -> !correlationId.isBlank())
+                    .map(correlationId -> new PendingKey(attempt.clientId().value(), attempt.eventId().value(), correlationId))
+                    .orElse(null);
+        }
+    }
+}
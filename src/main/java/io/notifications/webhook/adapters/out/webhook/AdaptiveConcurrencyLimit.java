@@ -0,0 +1,95 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import java.util.Objects;
+
+/*
+ * AdaptiveConcurrencyLimit adjusts how many requests may be in flight to one host, using additive
+ * increase / multiplicative decrease driven by latency.
+ *
+ * The baseline is the lowest round-trip time seen over the last one to two windows of samples, so it
+ * follows lasting changes in the network or the endpoint. A request that fails, or whose latency exceeds
+ * baseline * latencyTolerance, signals queueing at the host: the limit is multiplied by backoffRatio, at
+ * most once per baseline round trip so one burst of slow responses counts as a single congestion event.
+ * Otherwise, while the limit is actually being used (at least half of it in flight), each sample adds
+ * 1/limit, i.e. about one extra slot per round of requests.
+ *
+ * The limit stays within [minLimit, maxLimit]. Methods are synchronized; each call is a few field updates.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private final Settings settings;
+
+    private double limit;
+    private long baselineRttNs = Long.MAX_VALUE;
+    private long windowMinRttNs = Long.MAX_VALUE;
+    private int windowSamples;
+    private long lastDecreaseNs;
+    private boolean decreased;
+
+    public AdaptiveConcurrencyLimit(Settings settings) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.limit = settings.initialLimit();
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    /*
+     * Records a completed request. inFlight is the number of requests in flight when it was sent.
+     */
+    public synchronized void onSample(long rttNs, boolean failed, int inFlight, long nowNs) {
+        windowMinRttNs = Math.min(windowMinRttNs, rttNs);
+        if (++windowSamples >= settings.windowSize()) {
+            baselineRttNs = windowMinRttNs;
+            windowMinRttNs = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        long baseline = Math.min(baselineRttNs, windowMinRttNs);
+
+        boolean congested = failed || rttNs > baseline * settings.latencyTolerance();
+        if (congested) {
+            if (!decreased || nowNs - lastDecreaseNs >= baseline) {
+                limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+                lastDecreaseNs = nowNs;
+                decreased = true;
+            }
+            return;
+        }
+
+        if (inFlight * 2 >= (int) limit) {
+            limit = Math.min(settings.maxLimit(), limit + 1.0 / limit);
+        }
+    }
+
+    public record Settings(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double latencyTolerance,
+            double backoffRatio,
+            int windowSize
+    ) {
+
+        public Settings {
+            if (minLimit < 1) {
+                throw new IllegalArgumentException("minLimit must be positive");
+            }
+            if (maxLimit < minLimit) {
+                throw new IllegalArgumentException("maxLimit must be at least minLimit");
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+            }
+            if (latencyTolerance < 1.0) {
+                throw new IllegalArgumentException("latencyTolerance must be at least 1");
+            }
+            if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be positive");
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.ports.out.WebhookSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * BatchingWebhookSender coalesces deliveries for opted-in clients into one POST per batch.
+ *
+ * Each opted-in client has at most one open batch. The first event opens it and starts the linger timer;
+ * the batch is sent as a JSON array when it reaches maxBatchSize or when the linger time runs out,
+ * whichever comes first. Every event's future completes with the batch's DeliveryResult, so decorators
+ * above this one (persistence, retries) still see and record one delivery per event.
+ *
+ * Deliveries for other clients are passed straight to the HTTP sender.
+ *
+ * Metrics:
+ * - webhook_delivery_batch_size
+ * - webhook_delivery_batch_linger_seconds
+ * - webhook_delivery_batches_total{trigger=size|linger|shutdown}
+ */
+public final class BatchingWebhookSender implements WebhookSender, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingWebhookSender.class);
+
+    private final HttpWebhookSender delegate;
+    private final Set<ClientId> batchedClients;
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final ScheduledExecutorService lingerTimer;
+    private final ConcurrentMap<ClientId, Batch> openBatches = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSize;
+    private final Timer batchLinger;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean closed;
+
+    public BatchingWebhookSender(
+            HttpWebhookSender delegate,
+            Set<ClientId> batchedClients,
+            int maxBatchSize,
+            Duration linger,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.batchedClients = Set.copyOf(Objects.requireNonNull(batchedClients, "batchedClients must not be null"));
+        this.linger = Objects.requireNonNull(linger, "linger must not be null");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        if (linger.isNegative() || linger.isZero()) {
+            throw new IllegalArgumentException("linger must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+
+        this.lingerTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-batch-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.batchSize = DistributionSummary.builder("webhook_delivery_batch_size").register(meterRegistry);
+        this.batchLinger = Timer.builder("webhook_delivery_batch_linger_seconds").register(meterRegistry);
+    }
+
+    @Override
+    public DeliveryResult send(ClientId clientId, NotificationEvent notificationEvent) {
+        return sendAsync(clientId, notificationEvent, Optional.empty()).toCompletableFuture().join();
+    }
+
+    @Override
+    public CompletionStage<DeliveryResult> sendAsync(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId
+    ) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(notificationEvent, "notificationEvent must not be null");
+
+        if (closed || !batchedClients.contains(clientId)) {
+            return delegate.sendAsync(clientId, notificationEvent, correlationId);
+        }
+
+        CompletableFuture<DeliveryResult> result = new CompletableFuture<>();
+        Batch[] full = new Batch[1];
+
+        try {
+            openBatches.compute(clientId, (id, batch) -> {
+                if (batch == null) {
+                    batch = new Batch(id, System.nanoTime());
+                    Batch opened = batch;
+                    batch.lingerTask = lingerTimer.schedule(() -> lingerExpired(opened), linger.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                batch.add(notificationEvent, result);
+                if (batch.size() >= maxBatchSize) {
+                    full[0] = batch;
+                    return null;
+                }
+                return batch;
+            });
+        } catch (RejectedExecutionException ex) {
+            // Closed while this call was opening a batch; send the event on its own.
+            return delegate.sendAsync(clientId, notificationEvent, correlationId);
+        }
+
+        if (full[0] != null) {
+            full[0].lingerTask.cancel(false);
+            flush(full[0], "size");
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        lingerTimer.shutdownNow();
+        for (Batch batch : List.copyOf(openBatches.values())) {
+            if (openBatches.remove(batch.clientId, batch)) {
+                flush(batch, "shutdown");
+            }
+        }
+    }
+
+    private void lingerExpired(Batch batch) {
+        if (openBatches.remove(batch.clientId, batch)) {
+            flush(batch, "linger");
+        }
+    }
+
+    private void flush(Batch batch, String trigger) {
+        batchSize.record(batch.size());
+        batchLinger.record(System.nanoTime() - batch.openedAtNs, TimeUnit.NANOSECONDS);
+        Counter.builder("webhook_delivery_batches_total")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .increment();
+
+        CompletionStage<DeliveryResult> sent;
+        try {
+            sent = delegate.sendBatchAsync(batch.clientId, batch.events);
+        } catch (RuntimeException ex) {
+            sent = CompletableFuture.failedFuture(ex);
+        }
+
+        sent.whenComplete((result, error) -> {
+            if (error != null) {
+                LOG.warn(
+                        "webhook_delivery_batch_failed client_id={} events={} error={}",
+                        batch.clientId,
+                        batch.size(),
+                        error.getMessage(),
+                        error
+                );
+            }
+            for (CompletableFuture<DeliveryResult> future : batch.results) {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(result);
+                }
+            }
+        });
+    }
+
+    /*
+     * Batch is only mutated inside openBatches.compute, which serializes access per client. Once removed from
+     * the map it is no longer mutated and is safe to read from the flushing thread.
+     */
+    private static final class Batch {
+
+        private final ClientId clientId;
+        private final long openedAtNs;
+        private final List<NotificationEvent> events = new ArrayList<>();
+        private final List<CompletableFuture<DeliveryResult>> results = new ArrayList<>();
+        private ScheduledFuture<?> lingerTask;
+
+        private Batch(ClientId clientId, long openedAtNs) {
+            this.clientId = clientId;
+            this.openedAtNs = openedAtNs;
+        }
+
+        private void add(NotificationEvent event, CompletableFuture<DeliveryResult> result) {
+            events.add(event);
+            results.add(result);
+        }
+
+        private int size() {
+            return events.size();
+        }
+    }
+}
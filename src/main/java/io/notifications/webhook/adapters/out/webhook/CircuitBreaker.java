@@ -0,0 +1,231 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/*
+ * CircuitBreaker tracks the health of a single webhook target host.
+ *
+ * CLOSED: calls pass and their outcomes are kept in a sliding window of the last windowSize calls. Once the
+ * window holds at least minimumCalls outcomes and either the failure rate or the slow-call rate reaches its
+ * threshold, the breaker opens.
+ *
+ * OPEN: calls are rejected without touching the network until openDuration has elapsed, then the breaker
+ * moves to HALF_OPEN.
+ *
+ * HALF_OPEN: up to halfOpenCalls trial calls pass. When they have all completed, the breaker closes if their
+ * rates are below the thresholds and opens again otherwise.
+ *
+ * Every transition starts a new generation, and a permission carries the generation it was granted in.
+ * Results and releases for a permission from an earlier generation are ignored: a call that started while
+ * the breaker was CLOSED and finishes after it went OPEN and then HALF_OPEN is not a trial call, and must not
+ * take a trial slot or decide whether the breaker closes again.
+ *
+ * Methods are synchronized; the critical sections are a few field updates.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /*
+     * Observes state changes, e.g. to export metrics and logs.
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+
+        void onTransition(State from, State to);
+    }
+
+    /*
+     * Returned by tryAcquirePermission when the call must not proceed.
+     */
+    public static final long NO_PERMISSION = -1L;
+
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final TransitionListener listener;
+
+    private final boolean[] failedWindow;
+    private final boolean[] slowWindow;
+    private int windowCount;
+    private int windowNext;
+    private int windowFailures;
+    private int windowSlowCalls;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNs;
+    private int halfOpenPermitted;
+    private int halfOpenCompleted;
+    private int halfOpenFailures;
+    private int halfOpenSlowCalls;
+
+    public CircuitBreaker(Settings settings, LongSupplier nanoClock, TransitionListener listener) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock must not be null");
+        this.listener = Objects.requireNonNull(listener, "listener must not be null");
+        this.failedWindow = new boolean[settings.windowSize()];
+        this.slowWindow = new boolean[settings.windowSize()];
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /*
+     * Returns a permission if a call may proceed, or NO_PERMISSION. Every permitted call must be followed by
+     * exactly one onResult, or by releasePermission if the call was not made, passing the permission back.
+     */
+    public synchronized long tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return generation;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAtNs < settings.openDuration().toNanos()) {
+                    return NO_PERMISSION;
+                }
+                transitionTo(State.HALF_OPEN);
+                // fall through: the first trial call takes a half-open permit
+            case HALF_OPEN:
+                if (halfOpenPermitted >= settings.halfOpenCalls()) {
+                    return NO_PERMISSION;
+                }
+                halfOpenPermitted++;
+                return generation;
+            default:
+                throw new IllegalStateException("Unknown circuit breaker state " + state);
+        }
+    }
+
+    /*
+     * Returns a permission for a call that was never made, so it neither counts as a result nor keeps a
+     * half-open trial slot.
+     */
+    public synchronized void releasePermission(long permission) {
+        if (permission != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenCompleted) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public synchronized void onResult(long permission, boolean failed, long durationNanos) {
+        if (permission != generation) {
+            return;
+        }
+        boolean slow = durationNanos >= settings.slowCallDuration().toNanos();
+
+        if (state == State.HALF_OPEN) {
+            halfOpenCompleted++;
+            if (failed) {
+                halfOpenFailures++;
+            }
+            if (slow) {
+                halfOpenSlowCalls++;
+            }
+            if (halfOpenCompleted >= settings.halfOpenCalls()) {
+                transitionTo(exceedsThresholds(halfOpenFailures, halfOpenSlowCalls, halfOpenCompleted) ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (windowCount == failedWindow.length) {
+            if (failedWindow[windowNext]) {
+                windowFailures--;
+            }
+            if (slowWindow[windowNext]) {
+                windowSlowCalls--;
+            }
+        } else {
+            windowCount++;
+        }
+        failedWindow[windowNext] = failed;
+        slowWindow[windowNext] = slow;
+        if (failed) {
+            windowFailures++;
+        }
+        if (slow) {
+            windowSlowCalls++;
+        }
+        windowNext = (windowNext + 1) % failedWindow.length;
+
+        if (windowCount >= settings.minimumCalls() && exceedsThresholds(windowFailures, windowSlowCalls, windowCount)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private boolean exceedsThresholds(int failures, int slowCalls, int calls) {
+        return failures * 100.0 / calls >= settings.failureRateThreshold()
+                || slowCalls * 100.0 / calls >= settings.slowCallRateThreshold();
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        generation++;
+
+        if (next == State.OPEN) {
+            openedAtNs = nanoClock.getAsLong();
+        }
+        if (next == State.HALF_OPEN) {
+            halfOpenPermitted = 0;
+            halfOpenCompleted = 0;
+            halfOpenFailures = 0;
+            halfOpenSlowCalls = 0;
+        }
+        if (next == State.CLOSED) {
+            windowCount = 0;
+            windowNext = 0;
+            windowFailures = 0;
+            windowSlowCalls = 0;
+        }
+
+        listener.onTransition(previous, next);
+    }
+
+    public record Settings(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            double slowCallRateThreshold,
+            Duration slowCallDuration,
+            Duration openDuration,
+            int halfOpenCalls
+    ) {
+
+        public Settings {
+            if (windowSize <= 0) {
+                throw new IllegalArgumentException("windowSize must be positive");
+            }
+            if (minimumCalls <= 0 || minimumCalls > windowSize) {
+                throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+            }
+            requirePercentage(failureRateThreshold, "failureRateThreshold");
+            requirePercentage(slowCallRateThreshold, "slowCallRateThreshold");
+            Objects.requireNonNull(slowCallDuration, "slowCallDuration must not be null");
+            Objects.requireNonNull(openDuration, "openDuration must not be null");
+            if (openDuration.isNegative() || openDuration.isZero()) {
+                throw new IllegalArgumentException("openDuration must be positive");
+            }
+            if (halfOpenCalls <= 0) {
+                throw new IllegalArgumentException("halfOpenCalls must be positive");
+            }
+        }
+
+        private static void requirePercentage(double value, String name) {
+            if (!(value > 0.0 && value <= 100.0)) {
+                throw new IllegalArgumentException(name + " must be in (0, 100]");
+            }
+        }
+    }
+}
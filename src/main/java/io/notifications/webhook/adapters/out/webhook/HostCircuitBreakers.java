@@ -0,0 +1,94 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * HostCircuitBreakers keeps one CircuitBreaker per webhook target host, created on first use.
+ *
+ * Metrics (per host):
+ * - webhook_circuit_breaker_state{host,state=closed|open|half_open} (1 for the current state, 0 otherwise)
+ * - webhook_circuit_breaker_transitions_total{host,from,to}
+ * - webhook_circuit_breaker_rejected_total{host}
+ */
+public final class HostCircuitBreakers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HostCircuitBreakers.class);
+
+    private final CircuitBreaker.Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, HostBreaker> breakers = new ConcurrentHashMap<>();
+
+    public HostCircuitBreakers(CircuitBreaker.Settings settings, MeterRegistry meterRegistry) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+    }
+
+    /*
+     * Returns a permission for a call to host, or CircuitBreaker.NO_PERMISSION after counting the rejection.
+     */
+    public long tryAcquirePermission(String host) {
+        HostBreaker breaker = forHost(host);
+        long permission = breaker.circuitBreaker().tryAcquirePermission();
+        if (permission == CircuitBreaker.NO_PERMISSION) {
+            breaker.rejected().increment();
+        }
+        return permission;
+    }
+
+    public void releasePermission(String host, long permission) {
+        forHost(host).circuitBreaker().releasePermission(permission);
+    }
+
+    public void onResult(String host, long permission, boolean failed, long durationNanos) {
+        forHost(host).circuitBreaker().onResult(permission, failed, durationNanos);
+    }
+
+    public CircuitBreaker.State state(String host) {
+        return forHost(host).circuitBreaker().state();
+    }
+
+    private HostBreaker forHost(String host) {
+        Objects.requireNonNull(host, "host must not be null");
+        return breakers.computeIfAbsent(host.toLowerCase(Locale.ROOT), this::create);
+    }
+
+    private HostBreaker create(String host) {
+        CircuitBreaker breaker = new CircuitBreaker(settings, System::nanoTime, (from, to) -> {
+            Counter.builder("webhook_circuit_breaker_transitions_total")
+                    .tag("host", host)
+                    .tag("from", tagValue(from))
+                    .tag("to", tagValue(to))
+                    .register(meterRegistry)
+                    .increment();
+            LOG.info("webhook_circuit_breaker_transition host={} from={} to={}", host, from, to);
+        });
+
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("webhook_circuit_breaker_state", breaker, b -> b.state() == state ? 1.0 : 0.0)
+                    .tag("host", host)
+                    .tag("state", tagValue(state))
+                    .register(meterRegistry);
+        }
+        Counter rejected = Counter.builder("webhook_circuit_breaker_rejected_total")
+                .tag("host", host)
+                .register(meterRegistry);
+
+        return new HostBreaker(breaker, rejected);
+    }
+
+    private static String tagValue(CircuitBreaker.State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+
+    private record HostBreaker(CircuitBreaker circuitBreaker, Counter rejected) {
+    }
+}
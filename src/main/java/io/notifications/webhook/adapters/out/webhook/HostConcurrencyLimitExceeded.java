@@ -0,0 +1,19 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import java.time.Duration;
+
+/*
+ * HostConcurrencyLimitExceeded is raised by HttpClientPool when a host's request queue is full, or when a
+ * request has waited in it for longer than the maximum queue wait. The request was never sent, so it says
+ * nothing about the host's health.
+ */
+public final class HostConcurrencyLimitExceeded extends RuntimeException {
+
+    public HostConcurrencyLimitExceeded(String host) {
+        super("Concurrency limit reached for host " + host);
+    }
+
+    public HostConcurrencyLimitExceeded(String host, Duration maxQueueWait) {
+        super("Timed out after " + maxQueueWait.toMillis() + "ms waiting for a request slot for host " + host);
+    }
+}
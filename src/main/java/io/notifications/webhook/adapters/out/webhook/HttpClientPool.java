@@ -0,0 +1,503 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/*
+ * HttpClientPool keeps one JDK HttpClient per target authority (host:port) and sends requests through it.
+ *
+ * Each client prefers HTTP/2 (negotiated through ALPN, falling back to HTTP/1.1) and keeps its own
+ * connection pool, so connections to one host are reused across deliveries and never shared with, or
+ * starved by, another host. Requests in flight to a host are capped by an AdaptiveConcurrencyLimit, which
+ * grows while response times stay near the host's best and shrinks when they climb or the host answers
+ * 429/503/504 or fails. Requests over the limit wait in a FIFO queue without holding a thread; once
+ * maxQueuedPerHost are waiting, further requests fail at once with HostConcurrencyLimitExceeded, and a
+ * request that has waited maxQueueWait fails the same way. The request timeout only starts once a request
+ * is sent, so without that bound a queue behind a slow host at the minimum limit could hold requests for
+ * as long as it takes to drain. Over HTTP/1.1 the limit also bounds the number of open connections to the
+ * host.
+ *
+ * A client that has had no request for idleTimeout is shut down and its connections closed; the next
+ * request to that host builds a new one.
+ *
+ * New TLS connections are counted through the client's SSLContext, which creates one SSLEngine per
+ * connection. The reuse ratio is the share of requests that did not need a new connection.
+ *
+ * Metrics:
+ * - webhook_http_requests_total{host}
+ * - webhook_http_concurrency_limit{host}
+ * - webhook_http_requests_in_flight{host}
+ * - webhook_http_requests_queued{host}
+ * - webhook_http_requests_rejected_total{host} (queue full or queue wait exceeded)
+ * - webhook_http_handshakes_total{host}
+ * - webhook_http_connection_reuse_ratio{host}
+ */
+public final class HttpClientPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpClientPool.class);
+
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+
+    private final Settings settings;
+    private final AdaptiveConcurrencyLimit.Settings limitSettings;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentMap<String, HostClient> clients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, HostState> hosts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    private volatile boolean closed;
+
+    public HttpClientPool(Settings settings, AdaptiveConcurrencyLimit.Settings limitSettings, MeterRegistry meterRegistry) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.limitSettings = Objects.requireNonNull(limitSettings, "limitSettings must not be null");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-http-client-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        long intervalMs = Math.max(1_000L, settings.idleTimeout().toMillis() / 2);
+        sweeper.scheduleWithFixedDelay(this::evictIdle, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return sendAsync(request, bodyHandler, sentAtNs -> {
+        });
+    }
+
+    /*
+     * onSent receives the System.nanoTime() at which the request was handed to the host's client, i.e. after
+     * any wait for a permit. It is not called for a request that was rejected or never sent.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> bodyHandler,
+            LongConsumer onSent
+    ) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(bodyHandler, "bodyHandler must not be null");
+        Objects.requireNonNull(onSent, "onSent must not be null");
+        if (closed) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("HttpClientPool is closed"));
+        }
+
+        HostClient host = lease(request.uri().getAuthority());
+        HostState state = host.state;
+
+        CompletableFuture<Void> permit = state.permits.acquire();
+        if (permit == null) {
+            host.leases.decrementAndGet();
+            state.rejected.increment();
+            return CompletableFuture.failedFuture(new HostConcurrencyLimitExceeded(state.host));
+        }
+
+        return permit
+                .thenCompose(ignored -> send(host, request, bodyHandler, onSent)
+                        .whenComplete((response, error) -> state.permits.release()))
+                .whenComplete((response, error) -> {
+                    host.lastUsedNs = System.nanoTime();
+                    host.leases.decrementAndGet();
+                });
+    }
+
+    /*
+     * Sends on the host's client while holding a permit. in-flight is decremented on every path; only requests
+     * that reached the client feed the adaptive limit.
+     */
+    private static <T> CompletableFuture<HttpResponse<T>> send(
+            HostClient host,
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> bodyHandler,
+            LongConsumer onSent
+    ) {
+        HostState state = host.state;
+        state.requests.increment();
+        int inFlight = state.inFlight.incrementAndGet();
+        long sentAtNs = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> response;
+        try {
+            response = host.client.sendAsync(request, bodyHandler);
+        } catch (RuntimeException ex) {
+            // Failed before reaching the host (e.g. an invalid request, or a client shut down by the sweeper):
+            // not a latency sample for the host's limit.
+            state.inFlight.decrementAndGet();
+            return CompletableFuture.failedFuture(ex);
+        }
+        onSent.accept(sentAtNs);
+        return response.whenComplete((result, error) -> {
+            state.inFlight.decrementAndGet();
+            long nowNs = System.nanoTime();
+            boolean failed = error != null || isOverloadStatus(result.statusCode());
+            state.limit.onSample(nowNs - sentAtNs, failed, inFlight, nowNs);
+        });
+    }
+
+    /*
+     * Shuts down every client. Requests still waiting for a host permit fail with RejectedExecutionException,
+     * as do requests made afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        sweeper.shutdownNow();
+        for (HostState state : hosts.values()) {
+            state.permits.close();
+        }
+        for (String authority : List.copyOf(clients.keySet())) {
+            HostClient host = clients.remove(authority);
+            if (host != null) {
+                host.client.shutdown();
+            }
+        }
+        executor.shutdown();
+    }
+
+    /*
+     * Takes a lease on the authority's client inside compute, so eviction (also done inside compute) can
+     * never close a client between lookup and use.
+     */
+    private HostClient lease(String authority) {
+        if (authority == null) {
+            throw new IllegalArgumentException("request URI must have an authority");
+        }
+        return clients.compute(authority, (key, host) -> {
+            if (host == null) {
+                host = new HostClient(newClient(key), hostState(key));
+            }
+            host.leases.incrementAndGet();
+            host.lastUsedNs = System.nanoTime();
+            return host;
+        });
+    }
+
+    void evictIdle() {
+        long idleNs = settings.idleTimeout().toNanos();
+        long now = System.nanoTime();
+        for (String authority : List.copyOf(clients.keySet())) {
+            clients.computeIfPresent(authority, (key, host) -> {
+                if (host.leases.get() > 0 || now - host.lastUsedNs < idleNs) {
+                    return host;
+                }
+                host.client.shutdown();
+                LOG.info("webhook_http_client_evicted host={} idle_ms={}", key, TimeUnit.NANOSECONDS.toMillis(now - host.lastUsedNs));
+                return null;
+            });
+        }
+    }
+
+    private HttpClient newClient(String authority) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.connectTimeout())
+                .executor(executor)
+                .sslContext(new CountingSslContext(defaultSslContext(), hostState(authority).handshakes))
+                .build();
+    }
+
+    private HostState hostState(String authority) {
+        return hosts.computeIfAbsent(authority, key -> new HostState(
+                key,
+                new AdaptiveConcurrencyLimit(limitSettings),
+                settings.maxQueuedPerHost(),
+                settings.maxQueueWait(),
+                executor,
+                meterRegistry
+        ));
+    }
+
+    private static boolean isOverloadStatus(int status) {
+        return status == 429 || status == 503 || status == 504;
+    }
+
+    private static SSLContext defaultSslContext() {
+        try {
+            return SSLContext.getDefault();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Default SSLContext is not available", ex);
+        }
+    }
+
+    public record Settings(int maxQueuedPerHost, Duration maxQueueWait, Duration idleTimeout, Duration connectTimeout) {
+
+        public Settings {
+            Objects.requireNonNull(maxQueueWait, "maxQueueWait must not be null");
+            Objects.requireNonNull(idleTimeout, "idleTimeout must not be null");
+            Objects.requireNonNull(connectTimeout, "connectTimeout must not be null");
+            if (maxQueuedPerHost < 0) {
+                throw new IllegalArgumentException("maxQueuedPerHost must not be negative");
+            }
+            if (maxQueueWait.isNegative() || maxQueueWait.isZero()) {
+                throw new IllegalArgumentException("maxQueueWait must be positive");
+            }
+            if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+                throw new IllegalArgumentException("idleTimeout must be positive");
+            }
+            if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+                throw new IllegalArgumentException("connectTimeout must be positive");
+            }
+        }
+    }
+
+    private static final class HostClient {
+
+        private final HttpClient client;
+        private final HostState state;
+        private final AtomicInteger leases = new AtomicInteger();
+        private volatile long lastUsedNs;
+
+        private HostClient(HttpClient client, HostState state) {
+            this.client = client;
+            this.state = state;
+        }
+    }
+
+    /*
+     * Per-host limit, permits and meters. They outlive evicted clients, so the learned limit and the
+     * counters carry over when a client is rebuilt.
+     */
+    private static final class HostState {
+
+        private final String host;
+        private final AdaptiveConcurrencyLimit limit;
+        private final HostPermits permits;
+        private final Counter requests;
+        private final Counter handshakes;
+        private final Counter rejected;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private HostState(
+                String host,
+                AdaptiveConcurrencyLimit limit,
+                int maxQueued,
+                Duration maxQueueWait,
+                Executor executor,
+                MeterRegistry registry
+        ) {
+            this.host = host;
+            this.limit = limit;
+            this.requests = Counter.builder("webhook_http_requests_total").tag("host", host).register(registry);
+            this.handshakes = Counter.builder("webhook_http_handshakes_total").tag("host", host).register(registry);
+            this.rejected = Counter.builder("webhook_http_requests_rejected_total").tag("host", host).register(registry);
+            this.permits = new HostPermits(host, limit, maxQueued, maxQueueWait, executor, rejected);
+            Gauge.builder("webhook_http_concurrency_limit", limit, AdaptiveConcurrencyLimit::limit).tag("host", host).register(registry);
+            Gauge.builder("webhook_http_requests_in_flight", inFlight, AtomicInteger::get).tag("host", host).register(registry);
+            Gauge.builder("webhook_http_requests_queued", permits, HostPermits::queued).tag("host", host).register(registry);
+            Gauge.builder("webhook_http_connection_reuse_ratio", this, HostState::reuseRatio).tag("host", host).register(registry);
+        }
+
+        private double reuseRatio() {
+            double total = requests.count();
+            if (total == 0) {
+                return 0;
+            }
+            return Math.max(0, 1 - handshakes.count() / total);
+        }
+    }
+
+    /*
+     * A non-blocking counting semaphore whose size follows the adaptive limit: acquire returns a future that
+     * completes once a permit is free, or null when maxQueued requests are already waiting. A waiter still
+     * queued after maxWait is removed and failed with HostConcurrencyLimitExceeded; since removal and granting
+     * both happen under the lock, a waiter is either granted a permit or expired, never both. Once closed,
+     * waiting and later acquires fail.
+     */
+    private static final class HostPermits {
+
+        private final String host;
+        private final AdaptiveConcurrencyLimit limit;
+        private final int maxQueued;
+        private final Duration maxWait;
+        private final Executor expiry;
+        private final Counter rejected;
+        private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private int inUse;
+        private boolean closed;
+
+        private HostPermits(
+                String host,
+                AdaptiveConcurrencyLimit limit,
+                int maxQueued,
+                Duration maxWait,
+                Executor executor,
+                Counter rejected
+        ) {
+            this.host = host;
+            this.limit = limit;
+            this.maxQueued = maxQueued;
+            this.maxWait = maxWait;
+            this.expiry = CompletableFuture.delayedExecutor(maxWait.toNanos(), TimeUnit.NANOSECONDS, executor);
+            this.rejected = rejected;
+        }
+
+        private synchronized CompletableFuture<Void> acquire() {
+            if (closed) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("HttpClientPool is closed"));
+            }
+            if (inUse < limit.limit()) {
+                inUse++;
+                return ACQUIRED;
+            }
+            if (waiters.size() >= maxQueued) {
+                return null;
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            expiry.execute(() -> expire(waiter));
+            return waiter;
+        }
+
+        private void expire(CompletableFuture<Void> waiter) {
+            synchronized (this) {
+                if (!waiters.remove(waiter)) {
+                    return;
+                }
+            }
+            rejected.increment();
+            waiter.completeExceptionally(new HostConcurrencyLimitExceeded(host, maxWait));
+        }
+
+        /*
+         * Frees a permit and hands permits to waiters while the (possibly changed) limit allows.
+         */
+        private void release() {
+            List<CompletableFuture<Void>> granted = new ArrayList<>();
+            synchronized (this) {
+                inUse--;
+                int currentLimit = limit.limit();
+                while (inUse < currentLimit && !waiters.isEmpty()) {
+                    inUse++;
+                    granted.add(waiters.poll());
+                }
+            }
+            for (CompletableFuture<Void> waiter : granted) {
+                waiter.complete(null);
+            }
+        }
+
+        private synchronized int queued() {
+            return waiters.size();
+        }
+
+        private void close() {
+            List<CompletableFuture<Void>> pending;
+            synchronized (this) {
+                closed = true;
+                pending = List.copyOf(waiters);
+                waiters.clear();
+            }
+            RejectedExecutionException closedException = new RejectedExecutionException("HttpClientPool is closed");
+            for (CompletableFuture<Void> waiter : pending) {
+                waiter.completeExceptionally(closedException);
+            }
+        }
+    }
+
+    /*
+     * Delegates to the default SSLContext and counts the engines it creates; the HttpClient creates one
+     * engine per new TLS connection.
+     */
+    private static final class CountingSslContext extends SSLContext {
+
+        private CountingSslContext(SSLContext delegate, Counter handshakes) {
+            super(new CountingSpi(delegate, handshakes), delegate.getProvider(), delegate.getProtocol());
+        }
+    }
+
+    private static final class CountingSpi extends SSLContextSpi {
+
+        private final SSLContext delegate;
+        private final Counter handshakes;
+
+        private CountingSpi(SSLContext delegate, Counter handshakes) {
+            this.delegate = delegate;
+            this.handshakes = handshakes;
+        }
+
+        @Override
+        protected void engineInit(KeyManager[] keyManagers, TrustManager[] trustManagers, SecureRandom random)
+                throws KeyManagementException {
+            throw new KeyManagementException("CountingSslContext is initialized by its delegate");
+        }
+
+        @Override
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return delegate.getSocketFactory();
+        }
+
+        @Override
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return delegate.getServerSocketFactory();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine() {
+            handshakes.increment();
+            return delegate.createSSLEngine();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine(String host, int port) {
+            handshakes.increment();
+            return delegate.createSSLEngine(host, port);
+        }
+
+        @Override
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return delegate.getServerSessionContext();
+        }
+
+        @Override
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return delegate.getClientSessionContext();
+        }
+
+        @Override
+        protected SSLParameters engineGetDefaultSSLParameters() {
+            return delegate.getDefaultSSLParameters();
+        }
+
+        @Override
+        protected SSLParameters engineGetSupportedSSLParameters() {
+            return delegate.getSupportedSSLParameters();
+        }
+    }
+}
@@ -2,88 +2,176 @@ package io.notifications.webhook.adapters.out.webhook;
 
 import io.notifications.webhook.domain.model.ClientId;
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.ports.out.WebhookEndpointRegistry;
 import io.notifications.webhook.domain.ports.out.WebhookSender;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
-import org.springframework.web.client.RestClient;
 
 import java.net.URI;
-import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /*
  * HttpWebhookSender is an outbound adapter that delivers notification events via HTTPS POST.
  *
- * It validates that the configured target URL uses HTTPS, posts a minimal JSON payload, and returns
- * a DeliveryResult that captures success or failure without leaking HTTP client details into the domain.
+ * It resolves each client's target URL through the WebhookEndpointRegistry, posts a minimal JSON payload,
+ * and returns a DeliveryResult that captures success or failure without leaking HTTP client details into
+ * the domain.
  *
  * Timeouts are configured to keep calls bounded. Exceptions and non-2xx responses are converted into
  * DeliveryResult failures.
+ *
+ * Deliveries are sent with the JDK HttpClient's sendAsync through an HttpClientPool (one client and
+ * connection pool per target authority), so no thread waits while a request is in flight.
+ * The pool runs completions on virtual threads, which lets callers chain blocking work (such as
+ * persisting the attempt) onto the returned stage. send() waits for sendAsync.
+ *
+ * Request bodies come from a WebhookPayloadCache, so a retried event reuses the bytes of its first
+ * attempt. SharedBytesPublisher sends that array as a read-only ByteBuffer view, so neither the first send
+ * nor a retry copies the body (BodyPublishers.ofByteArray would copy it on every send).
+ *
+ * Calls go through a per-host circuit breaker. Transport errors and 5xx responses count as failures; 4xx
+ * responses show the host is up and do not. While the breaker is open, deliveries fail immediately without
+ * a network call. Requests rejected by the pool's per-host concurrency limit never reach the host and do not
+ * count for the breaker. Results of calls that were permitted before the breaker last changed state are
+ * ignored by it (see CircuitBreaker), so a call that queued for a host permit across a transition does not
+ * count as a half-open trial. Call durations are measured from the moment the pool sends the request, so time
+ * spent waiting for a host permit never makes a call look slow.
+ *
+ * sendBatchAsync posts several events of one client as a JSON array; it is used by BatchingWebhookSender.
  */
 public final class HttpWebhookSender implements WebhookSender {
 
-    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
     private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
     private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+    private static final long NOT_SENT = Long.MIN_VALUE;
+
+    private final WebhookEndpointRegistry endpointRegistry;
+    private final HttpClientPool httpClients;
+    private final WebhookPayloadCache payloadCache;
+    private final HostCircuitBreakers circuitBreakers;
+
+    public HttpWebhookSender(
+            WebhookEndpointRegistry endpointRegistry,
+            HttpClientPool httpClients,
+            WebhookPayloadCache payloadCache,
+            HostCircuitBreakers circuitBreakers
+    ) {
+        this.endpointRegistry = Objects.requireNonNull(endpointRegistry, "endpointRegistry must not be null");
+        this.httpClients = Objects.requireNonNull(httpClients, "httpClients must not be null");
+        this.payloadCache = Objects.requireNonNull(payloadCache, "payloadCache must not be null");
+        this.circuitBreakers = Objects.requireNonNull(circuitBreakers, "circuitBreakers must not be null");
+    }
 
-    private final URI targetUri;
-    private final RestClient restClient;
+    @Override
+    public DeliveryResult send(ClientId clientId, NotificationEvent notificationEvent) {
+        return sendAsync(clientId, notificationEvent, Optional.empty()).toCompletableFuture().join();
+    }
 
-    public HttpWebhookSender(String targetUrl) {
-        Objects.requireNonNull(targetUrl, "targetUrl must not be null");
+    @Override
+    public CompletionStage<DeliveryResult> sendAsync(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId
+    ) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(notificationEvent, "notificationEvent must not be null");
+
+        return deliver(clientId, () -> payloadCache.bytes(WebhookPayload.from(clientId, notificationEvent)));
+    }
 
-        URI uri = URI.create(targetUrl);
-        if (uri.getScheme() == null || !uri.getScheme().equalsIgnoreCase("https")) {
-            throw new IllegalArgumentException("WEBHOOK_TARGET_URL must be an https URL");
+    /*
+     * Posts the events as one JSON array of payloads. The single HTTP outcome applies to every event in the
+     * batch, and the batch counts as one call for the circuit breaker.
+     */
+    CompletionStage<DeliveryResult> sendBatchAsync(ClientId clientId, List<NotificationEvent> notificationEvents) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(notificationEvents, "notificationEvents must not be null");
+        if (notificationEvents.isEmpty()) {
+            throw new IllegalArgumentException("notificationEvents must not be empty");
         }
-        this.targetUri = uri;
 
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(CONNECT_TIMEOUT)
-                .build();
+        return deliver(clientId, () -> payloadCache.arrayBytes(notificationEvents.stream()
+                .map(event -> WebhookPayload.from(clientId, event))
+                .toList()));
+    }
+
+    private CompletionStage<DeliveryResult> deliver(ClientId clientId, Supplier<byte[]> body) {
+        Instant occurredAt = Instant.now();
+        URI targetUri = URI.create(endpointRegistry.targetUrl(clientId));
+        String targetHost = targetUri.getAuthority();
+
+        long permission = circuitBreakers.tryAcquirePermission(targetHost);
+        if (permission == CircuitBreaker.NO_PERMISSION) {
+            return CompletableFuture.completedFuture(
+                    DeliveryResult.failure(Optional.empty(), "Circuit breaker open for host " + targetHost, occurredAt)
+            );
+        }
 
-        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
-        requestFactory.setReadTimeout(READ_TIMEOUT);
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(targetUri)
+                    .timeout(READ_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(SharedBytesPublisher.of(body.get()))
+                    .build();
+        } catch (RuntimeException ex) {
+            circuitBreakers.releasePermission(targetHost, permission);
+            return CompletableFuture.completedFuture(failure(ex, occurredAt));
+        }
 
-        this.restClient = RestClient.builder()
-                .requestFactory(requestFactory)
-                .build();
+        // Set once the pool has granted a host permit and sent the request, so slow-call detection only sees
+        // time on the wire, not time queued here behind the concurrency limit.
+        AtomicLong sentAtNs = new AtomicLong(NOT_SENT);
+        return httpClients.sendAsync(request, HttpResponse.BodyHandlers.discarding(), sentAtNs::set)
+                .handle((response, error) -> {
+                    long sentAt = sentAtNs.get();
+                    if (sentAt == NOT_SENT) {
+                        // Rejected locally before sending: not a signal about the host.
+                        circuitBreakers.releasePermission(targetHost, permission);
+                        return failure(error, occurredAt);
+                    }
+
+                    DeliveryResult result = toResult(response, error, occurredAt);
+                    circuitBreakers.onResult(targetHost, permission, isHostFailure(result), System.nanoTime() - sentAt);
+                    return result;
+                });
     }
 
-    @Override
-    public DeliveryResult send(ClientId clientId, NotificationEvent notificationEvent) {
-        Objects.requireNonNull(clientId, "clientId must not be null");
-        Objects.requireNonNull(notificationEvent, "notificationEvent must not be null");
+    private static DeliveryResult toResult(HttpResponse<Void> response, Throwable error, Instant occurredAt) {
+        if (error != null) {
+            return failure(error, occurredAt);
+        }
 
-        Instant occurredAt = Instant.now();
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return DeliveryResult.success(status, occurredAt);
+        }
 
-        WebhookPayload payload = WebhookPayload.from(clientId, notificationEvent);
+        return DeliveryResult.failure(Optional.of(status), "Non-2xx response from webhook target", occurredAt);
+    }
 
-        try {
-            ResponseEntity<Void> response = restClient
-                    .post()
-                    .uri(targetUri)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .body(payload)
-                    .retrieve()
-                    .toBodilessEntity();
-
-            int status = response.getStatusCode().value();
-
-            if (status >= 200 && status < 300) {
-                return DeliveryResult.success(status, occurredAt);
-            }
-
-            return DeliveryResult.failure(Optional.of(status), "Non-2xx response from webhook target", occurredAt);
-        } catch (Exception ex) {
-            String message = ex.getMessage() == null ? "Webhook delivery failed" : ex.getMessage();
-            return DeliveryResult.failure(Optional.empty(), sanitize(message), occurredAt);
-        }
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static DeliveryResult failure(Throwable error, Instant occurredAt) {
+        Throwable cause = unwrap(error);
+        String message = cause.getMessage() == null ? "Webhook delivery failed" : cause.getMessage();
+        return DeliveryResult.failure(Optional.empty(), sanitize(message), occurredAt);
+    }
+
+    private static boolean isHostFailure(DeliveryResult result) {
+        return !result.delivered() && result.httpStatus().map(status -> status >= 500).orElse(true);
     }
 
     private static String sanitize(String message) {
@@ -93,4 +181,4 @@ public final class HttpWebhookSender implements WebhookSender {
         }
         return trimmed.substring(0, MAX_ERROR_MESSAGE_LENGTH);
     }
-}
\ No newline at end of file
+}
@@ -3,11 +3,14 @@ package io.notifications.webhook.adapters.out.webhook;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.notifications.webhook.domain.model.AttemptType;
 import io.notifications.webhook.domain.model.ClientId;
 import io.notifications.webhook.domain.model.DeliveryAttempt;
 import io.notifications.webhook.domain.model.DeliveryAttemptResult;
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.TimeOrderedUuid;
 import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import io.notifications.webhook.domain.ports.out.WebhookEndpointRegistry;
 import io.notifications.webhook.domain.ports.out.WebhookSender;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +18,8 @@ import org.slf4j.LoggerFactory;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 /*
  * PersistingWebhookSender decorates another WebhookSender and records delivery attempt metadata in Postgres.
@@ -26,7 +30,12 @@ import java.util.UUID;
  *
  * Minimal idempotency correlation for replay deliveries is supported:
  * - If a correlation id (Idempotency-Key) is provided, it is persisted as correlation_id.
- * - If absent, a random UUID correlation id is generated.
+ * - If absent, a time-ordered UUIDv7 correlation id is generated (TimeOrderedUuid).
+ *
+ * sendAsync records the same data from a completion callback, so no thread waits on the HTTP call.
+ *
+ * Deliveries are recorded as REPLAY attempts unless the caller passes another AttemptType (e.g. RETRY from the
+ * retry scheduler).
  */
 public final class PersistingWebhookSender implements WebhookSender {
 
@@ -36,7 +45,7 @@ public final class PersistingWebhookSender implements WebhookSender {
 
     private final WebhookSender delegate;
     private final DeliveryAttemptRepository deliveryAttemptRepository;
-    private final String targetUrl;
+    private final WebhookEndpointRegistry endpointRegistry;
 
     private final Counter deliverySuccessCounter;
     private final Counter deliveryFailureCounter;
@@ -45,16 +54,12 @@ public final class PersistingWebhookSender implements WebhookSender {
     public PersistingWebhookSender(
             WebhookSender delegate,
             DeliveryAttemptRepository deliveryAttemptRepository,
-            String targetUrl,
+            WebhookEndpointRegistry endpointRegistry,
             MeterRegistry meterRegistry
     ) {
         this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
         this.deliveryAttemptRepository = Objects.requireNonNull(deliveryAttemptRepository, "deliveryAttemptRepository must not be null");
-
-        if (targetUrl == null || targetUrl.isBlank()) {
-            throw new IllegalArgumentException("targetUrl must not be blank");
-        }
-        this.targetUrl = targetUrl;
+        this.endpointRegistry = Objects.requireNonNull(endpointRegistry, "endpointRegistry must not be null");
 
         MeterRegistry registry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
         this.deliverySuccessCounter = Counter.builder("webhook_delivery_attempts_total")
@@ -74,24 +79,72 @@ public final class PersistingWebhookSender implements WebhookSender {
 
     @Override
     public DeliveryResult send(ClientId clientId, NotificationEvent notificationEvent, Optional<String> correlationId) {
-        Objects.requireNonNull(clientId, "clientId must not be null");
-        Objects.requireNonNull(notificationEvent, "notificationEvent must not be null");
-        Objects.requireNonNull(correlationId, "correlationId must not be null");
+        return send(clientId, notificationEvent, correlationId, AttemptType.REPLAY);
+    }
 
-        String effectiveCorrelationId = correlationId
-                .flatMap(PersistingWebhookSender::normalizeCorrelationId)
-                .orElseGet(() -> UUID.randomUUID().toString());
+    public DeliveryResult send(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId,
+            AttemptType attemptType
+    ) {
+        String effectiveCorrelationId = effectiveCorrelationId(clientId, notificationEvent, correlationId, attemptType);
 
         long startedAtNs = System.nanoTime();
         DeliveryResult result;
         try {
             result = delegate.send(clientId, notificationEvent);
-        } finally {
-            long elapsedNs = System.nanoTime() - startedAtNs;
-            this.deliveryLatencyTimer.record(elapsedNs, java.util.concurrent.TimeUnit.NANOSECONDS);
+        } catch (RuntimeException ex) {
+            deliveryLatencyTimer.record(System.nanoTime() - startedAtNs, TimeUnit.NANOSECONDS);
+            throw ex;
         }
 
-        long durationMs = (System.nanoTime() - startedAtNs) / 1_000_000L;
+        return record(clientId, notificationEvent, effectiveCorrelationId, attemptType, result, startedAtNs);
+    }
+
+    @Override
+    public CompletionStage<DeliveryResult> sendAsync(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId
+    ) {
+        return sendAsync(clientId, notificationEvent, correlationId, AttemptType.REPLAY);
+    }
+
+    /*
+     * Starts the delivery without blocking; metrics, the attempt row and the log line are recorded in the
+     * completion callback, on the thread that completes the delegate's stage.
+     */
+    public CompletionStage<DeliveryResult> sendAsync(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId,
+            AttemptType attemptType
+    ) {
+        String effectiveCorrelationId = effectiveCorrelationId(clientId, notificationEvent, correlationId, attemptType);
+
+        long startedAtNs = System.nanoTime();
+        return delegate.sendAsync(clientId, notificationEvent, Optional.empty())
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        deliveryLatencyTimer.record(System.nanoTime() - startedAtNs, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .thenApply(result -> record(clientId, notificationEvent, effectiveCorrelationId, attemptType, result, startedAtNs));
+    }
+
+    private DeliveryResult record(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            String effectiveCorrelationId,
+            AttemptType attemptType,
+            DeliveryResult result,
+            long startedAtNs
+    ) {
+        long elapsedNs = System.nanoTime() - startedAtNs;
+        this.deliveryLatencyTimer.record(elapsedNs, TimeUnit.NANOSECONDS);
+
+        long durationMs = elapsedNs / 1_000_000L;
 
         DeliveryAttemptResult attemptResult = result.delivered()
                 ? DeliveryAttemptResult.SUCCESS
@@ -106,9 +159,11 @@ public final class PersistingWebhookSender implements WebhookSender {
         Instant attemptedAt = result.occurredAt();
 
         Optional<Integer> httpStatus = result.httpStatus();
+        String targetUrl = endpointRegistry.targetUrl(clientId);
         Optional<String> errorMessage = result.errorMessage();
 
-        DeliveryAttempt attempt = DeliveryAttempt.replayAttempt(
+        DeliveryAttempt attempt = DeliveryAttempt.attempt(
+                attemptType,
                 notificationEvent.id(),
                 clientId,
                 targetUrl,
@@ -126,10 +181,11 @@ public final class PersistingWebhookSender implements WebhookSender {
         String eventTypeValue = notificationEvent.eventType() == null ? "null" : notificationEvent.eventType().toString();
 
         LOG.info(
-                "webhook_delivery_attempt event_id={} client_id={} event_type={} result={} http_status={} duration_ms={} target_url={} correlation_id={}",
+                "webhook_delivery_attempt event_id={} client_id={} event_type={} attempt_type={} result={} http_status={} duration_ms={} target_url={} correlation_id={}",
                 notificationEvent.id(),
                 clientId,
                 eventTypeValue,
+                attemptType,
                 attemptResult,
                 httpStatusValue,
                 durationMs,
@@ -140,6 +196,22 @@ public final class PersistingWebhookSender implements WebhookSender {
         return result;
     }
 
+    private static String effectiveCorrelationId(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId,
+            AttemptType attemptType
+    ) {
+        Objects.requireNonNull(attemptType, "attemptType must not be null");
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(notificationEvent, "notificationEvent must not be null");
+        Objects.requireNonNull(correlationId, "correlationId must not be null");
+
+        return correlationId
+                .flatMap(PersistingWebhookSender::normalizeCorrelationId)
+                .orElseGet(() -> TimeOrderedUuid.next().toString());
+    }
+
     private static Optional<String> normalizeCorrelationId(String raw) {
         if (raw == null) {
             return Optional.empty();
@@ -0,0 +1,69 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * SharedBytesPublisher publishes a request body straight from a shared byte array.
+ *
+ * BodyPublishers.ofByteArray copies the array into fresh ByteBuffers on every subscription, that is, on every
+ * send of the request. This publisher instead hands each subscriber a read-only ByteBuffer wrapping the array,
+ * so a cached payload is sent (and re-sent on retries) without allocating or copying the body. The array must
+ * not be modified afterwards.
+ *
+ * Each subscription emits the single buffer on the first positive request, then completes.
+ */
+final class SharedBytesPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final byte[] bytes;
+
+    private SharedBytesPublisher(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    static HttpRequest.BodyPublisher of(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        return HttpRequest.BodyPublishers.fromPublisher(new SharedBytesPublisher(bytes), bytes.length);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        subscriber.onSubscribe(new Subscription(subscriber, ByteBuffer.wrap(bytes).asReadOnlyBuffer()));
+    }
+
+    private static final class Subscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final ByteBuffer buffer;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Subscription(Flow.Subscriber<? super ByteBuffer> subscriber, ByteBuffer buffer) {
+            this.subscriber = subscriber;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("request must be positive, was " + n));
+                return;
+            }
+            if (buffer.hasRemaining()) {
+                subscriber.onNext(buffer);
+            }
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+        }
+    }
+}
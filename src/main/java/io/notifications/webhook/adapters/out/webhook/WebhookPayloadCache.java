@@ -0,0 +1,112 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * WebhookPayloadCache keeps the serialized JSON bytes of recently delivered payloads, so a retried or
+ * replayed event is not serialized again.
+ *
+ * Entries are keyed by the WebhookPayload itself, so an event whose content changed (for example after a
+ * snapshot reload) gets a new entry rather than stale bytes. The least recently used entry is evicted once
+ * maxEntries is reached; maxEntries=0 disables caching.
+ *
+ * Payloads are written straight to UTF-8 bytes by Jackson (which reuses its internal buffers), with no
+ * intermediate String. Returned arrays are shared and must not be modified.
+ *
+ * Metrics:
+ * - webhook_payload_cache_requests_total{result=hit|miss}
+ * - webhook_payload_cache_entries
+ */
+final class WebhookPayloadCache {
+
+    private final ObjectWriter payloadWriter;
+    private final int maxEntries;
+    private final Map<WebhookPayload, byte[]> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    WebhookPayloadCache(ObjectMapper objectMapper, int maxEntries, MeterRegistry meterRegistry) {
+        Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.payloadWriter = objectMapper.writerFor(WebhookPayload.class);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<WebhookPayload, byte[]> eldest) {
+                return size() > WebhookPayloadCache.this.maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("webhook_payload_cache_requests_total").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("webhook_payload_cache_requests_total").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("webhook_payload_cache_entries", this, WebhookPayloadCache::size).register(meterRegistry);
+    }
+
+    byte[] bytes(WebhookPayload payload) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        if (maxEntries == 0) {
+            misses.increment();
+            return payloadWriter.writeValueAsBytes(payload);
+        }
+
+        synchronized (entries) {
+            byte[] cached = entries.get(payload);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        byte[] serialized = payloadWriter.writeValueAsBytes(payload);
+        synchronized (entries) {
+            entries.put(payload, serialized);
+        }
+        return serialized;
+    }
+
+    /*
+     * Builds a JSON array body by joining the cached bytes of each payload.
+     */
+    byte[] arrayBytes(List<WebhookPayload> payloads) {
+        Objects.requireNonNull(payloads, "payloads must not be null");
+
+        byte[][] elements = new byte[payloads.size()][];
+        int length = 2 + Math.max(0, payloads.size() - 1);
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = bytes(payloads.get(i));
+            length += elements[i].length;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        out.write('[');
+        for (int i = 0; i < elements.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(elements[i]);
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
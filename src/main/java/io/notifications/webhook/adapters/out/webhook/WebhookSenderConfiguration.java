@@ -1,19 +1,40 @@
 package io.notifications.webhook.adapters.out.webhook;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.adapters.out.persistence.DeliveryRetryJdbcRepository;
+import io.notifications.webhook.adapters.out.webhook.retry.RetryingWebhookSender;
+import io.notifications.webhook.adapters.out.webhook.retry.WebhookRetryScheduler;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.RetryPolicy;
 import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import io.notifications.webhook.domain.ports.out.WebhookEndpointRegistry;
 import io.notifications.webhook.domain.ports.out.WebhookSender;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
 
 /*
  * WebhookSenderConfiguration provides the outbound WebhookSender port implementation.
  *
- * Runtime default is a real HTTP sender that delivers notification events to the configured HTTPS target URL.
+ * Runtime default is a real HTTP sender that delivers notification events to each client's HTTPS endpoint
+ * (see WebhookEndpointRegistry), through one pooled HTTP/2 client per target host (app.webhook.http.*).
  * A persisting decorator records delivery attempt metadata in Postgres for each delivery, and emits metrics/logs.
+ * Each target host is guarded by a circuit breaker (app.webhook.circuit-breaker.*).
+ * Clients listed in app.webhook.batch.clients receive their events batched into JSON array POSTs.
+ *
+ * Failed HTTP deliveries are retried automatically with exponential backoff (app.delivery.retry.*); set
+ * app.delivery.retry.enabled=false to rely on manual replay only.
  *
  * A No-Op implementation can be enabled explicitly via configuration for local runs or tests.
  */
@@ -21,15 +42,127 @@ import org.springframework.context.annotation.Primary;
 public final class WebhookSenderConfiguration {
 
     @Bean
-    @Primary
     @ConditionalOnProperty(name = "app.webhook.sender", havingValue = "http", matchIfMissing = true)
-    public WebhookSender httpWebhookSender(
-            @Value("${app.webhook.target-url}") String targetUrl,
+    public HostCircuitBreakers hostCircuitBreakers(
+            @Value("${app.webhook.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${app.webhook.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${app.webhook.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${app.webhook.circuit-breaker.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+            @Value("${app.webhook.circuit-breaker.slow-call-duration:3s}") Duration slowCallDuration,
+            @Value("${app.webhook.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${app.webhook.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            MeterRegistry meterRegistry
+    ) {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                slowCallRateThreshold,
+                slowCallDuration,
+                openDuration,
+                halfOpenCalls
+        );
+        return new HostCircuitBreakers(settings, meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.webhook.sender", havingValue = "http", matchIfMissing = true)
+    public HttpClientPool httpClientPool(
+            @Value("${app.webhook.http.max-connections-per-host:32}") int maxConnectionsPerHost,
+            @Value("${app.webhook.http.max-queued-per-host:1000}") int maxQueuedPerHost,
+            @Value("${app.webhook.http.max-queue-wait:10s}") Duration maxQueueWait,
+            @Value("${app.webhook.http.idle-timeout:60s}") Duration idleTimeout,
+            @Value("${app.webhook.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${app.webhook.http.limit.initial:8}") int initialLimit,
+            @Value("${app.webhook.http.limit.min:1}") int minLimit,
+            @Value("${app.webhook.http.limit.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${app.webhook.http.limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${app.webhook.http.limit.window-size:100}") int windowSize,
+            MeterRegistry meterRegistry
+    ) {
+        AdaptiveConcurrencyLimit.Settings limitSettings = new AdaptiveConcurrencyLimit.Settings(
+                initialLimit,
+                minLimit,
+                maxConnectionsPerHost,
+                latencyTolerance,
+                backoffRatio,
+                windowSize
+        );
+        return new HttpClientPool(
+                new HttpClientPool.Settings(maxQueuedPerHost, maxQueueWait, idleTimeout, connectTimeout),
+                limitSettings,
+                meterRegistry
+        );
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.webhook.sender", havingValue = "http", matchIfMissing = true)
+    public BatchingWebhookSender batchingWebhookSender(
+            WebhookEndpointRegistry webhookEndpointRegistry,
+            HttpClientPool httpClientPool,
+            HostCircuitBreakers hostCircuitBreakers,
+            ObjectMapper objectMapper,
+            @Value("${app.webhook.batch.clients:}") String batchedClients,
+            @Value("${app.webhook.batch.max-size:50}") int maxBatchSize,
+            @Value("${app.webhook.batch.linger:200ms}") Duration linger,
+            @Value("${app.webhook.payload-cache.max-entries:10000}") int payloadCacheEntries,
+            MeterRegistry meterRegistry
+    ) {
+        WebhookPayloadCache payloadCache = new WebhookPayloadCache(objectMapper, payloadCacheEntries, meterRegistry);
+        HttpWebhookSender httpSender = new HttpWebhookSender(webhookEndpointRegistry, httpClientPool, payloadCache, hostCircuitBreakers);
+        return new BatchingWebhookSender(httpSender, parseClients(batchedClients), maxBatchSize, linger, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.webhook.sender", havingValue = "http", matchIfMissing = true)
+    public PersistingWebhookSender persistingWebhookSender(
+            BatchingWebhookSender batchingWebhookSender,
             DeliveryAttemptRepository deliveryAttemptRepository,
+            WebhookEndpointRegistry webhookEndpointRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        return new PersistingWebhookSender(batchingWebhookSender, deliveryAttemptRepository, webhookEndpointRegistry, meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnBean(PersistingWebhookSender.class)
+    @ConditionalOnProperty(name = "app.delivery.retry.enabled", havingValue = "true", matchIfMissing = true)
+    public WebhookRetryScheduler webhookRetryScheduler(
+            PersistingWebhookSender persistingWebhookSender,
+            NotificationEventRepository notificationEventRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.delivery.retry.base-delay:1s}") Duration baseDelay,
+            @Value("${app.delivery.retry.multiplier:2.0}") double multiplier,
+            @Value("${app.delivery.retry.max-delay:10m}") Duration maxDelay,
+            @Value("${app.delivery.retry.max-attempts:5}") int maxAttempts,
+            @Value("${app.delivery.retry.tick:100ms}") Duration tick,
+            @Value("${app.delivery.retry.wheel-size:512}") int wheelSize,
+            @Value("${app.delivery.retry.concurrency:16}") int concurrency,
+            @Value("${app.delivery.retry.claim-lease:2m}") Duration claimLease,
+            @Value("${app.delivery.retry.sweep-interval:30s}") Duration sweepInterval,
             MeterRegistry meterRegistry
     ) {
-        WebhookSender httpSender = new HttpWebhookSender(targetUrl);
-        return new PersistingWebhookSender(httpSender, deliveryAttemptRepository, targetUrl, meterRegistry);
+        return new WebhookRetryScheduler(
+                persistingWebhookSender,
+                notificationEventRepository,
+                new DeliveryRetryJdbcRepository(jdbcTemplate),
+                RetryPolicy.of(baseDelay, multiplier, maxDelay, maxAttempts),
+                new WebhookRetryScheduler.Settings(tick, wheelSize, concurrency, claimLease, sweepInterval),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.webhook.sender", havingValue = "http", matchIfMissing = true)
+    public WebhookSender httpWebhookSender(
+            PersistingWebhookSender persistingWebhookSender,
+            ObjectProvider<WebhookRetryScheduler> retryScheduler
+    ) {
+        WebhookRetryScheduler scheduler = retryScheduler.getIfAvailable();
+        return scheduler == null
+                ? persistingWebhookSender
+                : new RetryingWebhookSender(persistingWebhookSender, scheduler);
     }
 
     @Bean
@@ -37,4 +170,17 @@ public final class WebhookSenderConfiguration {
     public WebhookSender noOpWebhookSender() {
         return new NoOpWebhookSender();
     }
-}
\ No newline at end of file
+
+    private static Set<ClientId> parseClients(String spec) {
+        Set<ClientId> clients = new HashSet<>();
+        if (spec == null || spec.isBlank()) {
+            return clients;
+        }
+        for (String entry : spec.split(",")) {
+            if (!entry.isBlank()) {
+                clients.add(ClientId.of(entry.trim()));
+            }
+        }
+        return clients;
+    }
+}
@@ -0,0 +1,164 @@
+package io.notifications.webhook.adapters.out.webhook.retry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/*
+ * HashedTimingWheel is a single-threaded timer for large numbers of low-precision timeouts.
+ *
+ * Time is divided into ticks. Each tick maps to one of wheelSize buckets (a power of two), and a timeout
+ * lands in the bucket of its deadline tick together with the number of full wheel rotations still to wait.
+ * Scheduling is O(1): callers only append to a lock-free inbox, which the ticker thread moves into buckets.
+ * On every tick the ticker visits a single bucket, fires the entries whose rotations have elapsed and
+ * decrements the others, so the cost per tick does not depend on how far in the future timeouts are.
+ *
+ * Timeouts fire no earlier than their deadline and at most about one tick late. Expired tasks are passed to
+ * onExpired on the ticker thread, which must hand them off quickly.
+ */
+public final class HashedTimingWheel<T> implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket<T>[] buckets;
+    private final Queue<Entry<T>> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Consumer<T> onExpired;
+    private final Thread ticker;
+
+    private volatile long startNanos;
+    private volatile boolean closed;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(Duration tickDuration, int wheelSize, String threadName, Consumer<T> onExpired) {
+        Objects.requireNonNull(tickDuration, "tickDuration must not be null");
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a positive power of two");
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.onExpired = Objects.requireNonNull(onExpired, "onExpired must not be null");
+        this.ticker = Thread.ofPlatform()
+                .name(Objects.requireNonNull(threadName, "threadName must not be null"))
+                .daemon(true)
+                .unstarted(this::run);
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        ticker.start();
+    }
+
+    public void schedule(T task, Duration delay) {
+        Objects.requireNonNull(task, "task must not be null");
+        Objects.requireNonNull(delay, "delay must not be null");
+        if (closed) {
+            throw new IllegalStateException("Timing wheel is closed");
+        }
+        long delayNanos = Math.max(0L, delay.toNanos());
+        long deadline = System.nanoTime() - startNanos + delayNanos;
+        inbox.add(new Entry<>(task, deadline));
+        pending.incrementAndGet();
+    }
+
+    /*
+     * Number of scheduled timeouts that have not fired yet.
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        ticker.interrupt();
+    }
+
+    private void run() {
+        while (!closed) {
+            long sleepNanos = (tick + 1) * tickNanos - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                continue;
+            }
+
+            transferInbox();
+            buckets[(int) (tick & mask)].expire(this::fire);
+            tick++;
+        }
+    }
+
+    private void transferInbox() {
+        Entry<T> entry;
+        while ((entry = inbox.poll()) != null) {
+            long deadlineTick = Math.max(entry.deadline / tickNanos, tick);
+            entry.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(entry);
+        }
+    }
+
+    private void fire(T task) {
+        pending.decrementAndGet();
+        onExpired.accept(task);
+    }
+
+    private static final class Entry<T> {
+
+        private final T task;
+        private final long deadline;
+        private long remainingRounds;
+        private Entry<T> next;
+
+        private Entry(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Entry<T> head;
+
+        void add(Entry<T> entry) {
+            entry.next = head;
+            head = entry;
+        }
+
+        void expire(Consumer<T> consumer) {
+            Entry<T> previous = null;
+            Entry<T> entry = head;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                if (entry.remainingRounds <= 0) {
+                    if (previous == null) {
+                        head = next;
+                    } else {
+                        previous.next = next;
+                    }
+                    entry.next = null;
+                    consumer.accept(entry.task);
+                } else {
+                    entry.remainingRounds--;
+                    previous = entry;
+                }
+                entry = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.notifications.webhook.adapters.out.webhook.retry;
+
+import io.notifications.webhook.adapters.out.webhook.PersistingWebhookSender;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.TimeOrderedUuid;
+import io.notifications.webhook.domain.ports.out.WebhookSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/*
+ * RetryingWebhookSender decorates the PersistingWebhookSender and hands failed deliveries to the
+ * WebhookRetryScheduler.
+ *
+ * A correlation id is fixed before the first attempt (the caller's, or a generated one), so the first attempt
+ * and all of its retries share it in delivery_attempts. The result of the first attempt is returned unchanged;
+ * a failure to schedule the retry is logged and does not affect the caller.
+ */
+public final class RetryingWebhookSender implements WebhookSender {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RetryingWebhookSender.class);
+
+    private final PersistingWebhookSender delegate;
+    private final WebhookRetryScheduler retryScheduler;
+
+    public RetryingWebhookSender(PersistingWebhookSender delegate, WebhookRetryScheduler retryScheduler) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.retryScheduler = Objects.requireNonNull(retryScheduler, "retryScheduler must not be null");
+    }
+
+    @Override
+    public DeliveryResult send(ClientId clientId, NotificationEvent notificationEvent) {
+        return send(clientId, notificationEvent, Optional.empty());
+    }
+
+    @Override
+    public DeliveryResult send(ClientId clientId, NotificationEvent notificationEvent, Optional<String> correlationId) {
+        Optional<String> effectiveCorrelationId = effectiveCorrelationId(correlationId);
+        DeliveryResult result = delegate.send(clientId, notificationEvent, effectiveCorrelationId);
+        onResult(clientId, notificationEvent, effectiveCorrelationId, result);
+        return result;
+    }
+
+    @Override
+    public CompletionStage<DeliveryResult> sendAsync(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId
+    ) {
+        Optional<String> effectiveCorrelationId = effectiveCorrelationId(correlationId);
+        return delegate.sendAsync(clientId, notificationEvent, effectiveCorrelationId)
+                .thenApply(result -> {
+                    onResult(clientId, notificationEvent, effectiveCorrelationId, result);
+                    return result;
+                });
+    }
+
+    private void onResult(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> effectiveCorrelationId,
+            DeliveryResult result
+    ) {
+        if (!result.delivered()) {
+            try {
+                retryScheduler.scheduleAfterFailure(clientId, notificationEvent, effectiveCorrelationId, 1, result);
+            } catch (RuntimeException ex) {
+                LOG.error(
+                        "webhook_delivery_retry_schedule_failed event_id={} client_id={} error={}",
+                        notificationEvent.id(),
+                        clientId,
+                        ex.getMessage(),
+                        ex
+                );
+            }
+        }
+    }
+
+    private static Optional<String> effectiveCorrelationId(Optional<String> correlationId) {
+        Objects.requireNonNull(correlationId, "correlationId must not be null");
+        return Optional.of(correlationId
+                .map(String::trim)
+                .filter(s -> !s.isBlank())
+                .orElseGet(() -> TimeOrderedUuid.next().toString()));
+    }
+}
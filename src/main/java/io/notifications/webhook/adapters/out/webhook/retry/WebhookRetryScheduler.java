@@ -0,0 +1,319 @@
+package io.notifications.webhook.adapters.out.webhook.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.adapters.out.persistence.DeliveryRetryJdbcRepository;
+import io.notifications.webhook.adapters.out.persistence.DeliveryRetryJdbcRepository.PendingRetry;
+import io.notifications.webhook.adapters.out.webhook.PersistingWebhookSender;
+import io.notifications.webhook.domain.model.AttemptType;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.RetryPolicy;
+import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import io.notifications.webhook.domain.ports.out.WebhookSender.DeliveryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * WebhookRetryScheduler re-attempts failed webhook deliveries according to a RetryPolicy.
+ *
+ * Pending retries are held in a HashedTimingWheel, so scheduling and firing cost O(1) each regardless of how
+ * many are pending, and are written to delivery_retries so that they survive restarts: on start() every
+ * stored retry is loaded back into the wheel. A due retry is claimed in the table before it runs, which keeps
+ * nodes that loaded the same rows from delivering it twice.
+ *
+ * The table is shared by all nodes. Every sweepInterval, each node also schedules the rows that have been due
+ * for longer than sweepInterval: retries left behind by a node that died, and claims whose lease ran out. A
+ * retry that fails unexpectedly after being claimed is put back in the wheel for the end of its lease.
+ *
+ * Retries run on virtual threads, at most `concurrency` at a time, and are recorded as RETRY attempts. Only
+ * failures that may be transient are retried: transport errors (no HTTP status), 408, 429 and 5xx.
+ *
+ * Metrics:
+ * - webhook_delivery_retries_pending
+ * - webhook_delivery_retries_total{outcome=scheduled|succeeded|exhausted|dropped}
+ */
+public final class WebhookRetryScheduler implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebhookRetryScheduler.class);
+
+    /*
+     * Tolerates small clock differences between nodes and the database when checking that a retry is due.
+     */
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(1);
+
+    private static final int SWEEP_BATCH_SIZE = 1_000;
+
+    private final PersistingWebhookSender webhookSender;
+    private final NotificationEventRepository notificationEventRepository;
+    private final DeliveryRetryJdbcRepository retryRepository;
+    private final RetryPolicy retryPolicy;
+    private final Duration claimLease;
+    private final HashedTimingWheel<PendingRetry> wheel;
+    private final Duration sweepInterval;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile boolean closed;
+    private Thread sweeper;
+
+    private final Counter scheduledCounter;
+    private final Counter succeededCounter;
+    private final Counter exhaustedCounter;
+    private final Counter droppedCounter;
+
+    public WebhookRetryScheduler(
+            PersistingWebhookSender webhookSender,
+            NotificationEventRepository notificationEventRepository,
+            DeliveryRetryJdbcRepository retryRepository,
+            RetryPolicy retryPolicy,
+            Settings settings,
+            MeterRegistry meterRegistry
+    ) {
+        this.webhookSender = Objects.requireNonNull(webhookSender, "webhookSender must not be null");
+        this.notificationEventRepository = Objects.requireNonNull(notificationEventRepository, "notificationEventRepository must not be null");
+        this.retryRepository = Objects.requireNonNull(retryRepository, "retryRepository must not be null");
+        this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+        Objects.requireNonNull(settings, "settings must not be null");
+        this.claimLease = settings.claimLease();
+        this.sweepInterval = settings.sweepInterval();
+        this.permits = new Semaphore(settings.concurrency());
+        this.wheel = new HashedTimingWheel<>(settings.tickDuration(), settings.wheelSize(), "webhook-retry-wheel", this::fire);
+
+        MeterRegistry registry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        Gauge.builder("webhook_delivery_retries_pending", wheel, HashedTimingWheel::pendingCount).register(registry);
+        this.scheduledCounter = retriesCounter(registry, "scheduled");
+        this.succeededCounter = retriesCounter(registry, "succeeded");
+        this.exhaustedCounter = retriesCounter(registry, "exhausted");
+        this.droppedCounter = retriesCounter(registry, "dropped");
+    }
+
+    public void start() {
+        wheel.start();
+        Instant now = Instant.now();
+        long recovered = retryRepository.forEachPending(retry -> wheel.schedule(retry, delayUntil(retry.dueAt(), now)));
+        LOG.info("webhook_delivery_retries_recovered count={}", recovered);
+        sweeper = Thread.ofVirtual().name("webhook-retry-sweeper").start(this::runSweeper);
+    }
+
+    /*
+     * Schedules the next attempt for a delivery that has failed attemptsMade times, if the policy allows it.
+     */
+    public void scheduleAfterFailure(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId,
+            int attemptsMade,
+            DeliveryResult result
+    ) {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(notificationEvent, "notificationEvent must not be null");
+        Objects.requireNonNull(correlationId, "correlationId must not be null");
+        Objects.requireNonNull(result, "result must not be null");
+
+        if (!isRetryable(result)) {
+            droppedCounter.increment();
+            return;
+        }
+        if (!retryPolicy.allowsRetryAfter(attemptsMade)) {
+            exhausted(clientId, notificationEvent.id().value(), attemptsMade);
+            return;
+        }
+
+        Duration delay = retryPolicy.delayBeforeRetry(attemptsMade, ThreadLocalRandom.current());
+        PendingRetry retry = new PendingRetry(
+                UUID.randomUUID(),
+                clientId,
+                notificationEvent.id(),
+                correlationId,
+                attemptsMade + 1,
+                Instant.now().plus(delay)
+        );
+        retryRepository.insert(retry);
+        wheel.schedule(retry, delay);
+        scheduledCounter.increment();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (sweeper != null) {
+            sweeper.interrupt();
+        }
+        wheel.close();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    static boolean isRetryable(DeliveryResult result) {
+        if (result.delivered()) {
+            return false;
+        }
+        return result.httpStatus()
+                .map(status -> status == 408 || status == 429 || status >= 500)
+                .orElse(true);
+    }
+
+    /*
+     * Runs on the wheel's ticker thread: hand off without blocking.
+     */
+    private void fire(PendingRetry retry) {
+        try {
+            executor.execute(() -> runWithPermit(retry));
+        } catch (RuntimeException ex) {
+            LOG.warn("webhook_delivery_retry_not_started id={} error={}", retry.id(), ex.getMessage());
+        }
+    }
+
+    private void runWithPermit(PendingRetry retry) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            return;
+        }
+        try {
+            run(retry);
+        } catch (RuntimeException ex) {
+            LOG.error(
+                    "webhook_delivery_retry_failed id={} event_id={} client_id={} attempt={} error={}",
+                    retry.id(),
+                    retry.eventId(),
+                    retry.clientId(),
+                    retry.attempt(),
+                    ex.getMessage(),
+                    ex
+            );
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void run(PendingRetry retry) {
+        Instant now = Instant.now();
+        Instant leaseUntil = now.plus(claimLease);
+        if (!retryRepository.claim(retry, now.plus(CLOCK_SKEW), leaseUntil)) {
+            return;
+        }
+
+        try {
+            attempt(retry);
+        } catch (RuntimeException ex) {
+            // The row stays claimed until leaseUntil; try again once the claim can be taken again.
+            wheel.schedule(retry.withAttempt(retry.attempt(), leaseUntil), delayUntil(leaseUntil, Instant.now()));
+            throw ex;
+        }
+    }
+
+    private void attempt(PendingRetry retry) {
+        Optional<NotificationEvent> event = notificationEventRepository.findByClientIdAndId(retry.clientId(), retry.eventId());
+        if (event.isEmpty()) {
+            retryRepository.delete(retry.id());
+            droppedCounter.increment();
+            return;
+        }
+
+        DeliveryResult result = webhookSender.send(retry.clientId(), event.get(), retry.correlationId(), AttemptType.RETRY);
+        if (result.delivered()) {
+            retryRepository.delete(retry.id());
+            succeededCounter.increment();
+            return;
+        }
+        if (!isRetryable(result)) {
+            retryRepository.delete(retry.id());
+            droppedCounter.increment();
+            return;
+        }
+        if (!retryPolicy.allowsRetryAfter(retry.attempt())) {
+            retryRepository.delete(retry.id());
+            exhausted(retry.clientId(), retry.eventId().value(), retry.attempt());
+            return;
+        }
+
+        Duration delay = retryPolicy.delayBeforeRetry(retry.attempt(), ThreadLocalRandom.current());
+        PendingRetry next = retry.withAttempt(retry.attempt() + 1, Instant.now().plus(delay));
+        retryRepository.reschedule(next.id(), next.attempt(), next.dueAt());
+        wheel.schedule(next, delay);
+        scheduledCounter.increment();
+    }
+
+    private void runSweeper() {
+        while (!closed) {
+            try {
+                Thread.sleep(sweepInterval);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            try {
+                sweep(Instant.now());
+            } catch (RuntimeException ex) {
+                LOG.warn("webhook_delivery_retry_sweep_failed error={}", ex.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Schedules rows that have been due for longer than sweepInterval. Rows this node already holds in the
+     * wheel fire on time and are claimed long before that; if one is scheduled twice anyway, the claim lets
+     * only one of the two run.
+     */
+    void sweep(Instant now) {
+        List<PendingRetry> overdue = retryRepository.findOverdue(now.minus(sweepInterval), SWEEP_BATCH_SIZE);
+        for (PendingRetry retry : overdue) {
+            wheel.schedule(retry, Duration.ZERO);
+        }
+        if (!overdue.isEmpty()) {
+            LOG.info("webhook_delivery_retries_swept count={}", overdue.size());
+        }
+    }
+
+    private void exhausted(ClientId clientId, String eventId, int attempts) {
+        exhaustedCounter.increment();
+        LOG.warn("webhook_delivery_retries_exhausted event_id={} client_id={} attempts={}", eventId, clientId, attempts);
+    }
+
+    private static Duration delayUntil(Instant dueAt, Instant now) {
+        return dueAt.isAfter(now) ? Duration.between(now, dueAt) : Duration.ZERO;
+    }
+
+    private static Counter retriesCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("webhook_delivery_retries_total").tag("outcome", outcome).register(registry);
+    }
+
+    public record Settings(Duration tickDuration, int wheelSize, int concurrency, Duration claimLease, Duration sweepInterval) {
+
+        public Settings {
+            Objects.requireNonNull(tickDuration, "tickDuration must not be null");
+            Objects.requireNonNull(claimLease, "claimLease must not be null");
+            Objects.requireNonNull(sweepInterval, "sweepInterval must not be null");
+            if (sweepInterval.isNegative() || sweepInterval.isZero()) {
+                throw new IllegalArgumentException("sweepInterval must be positive");
+            }
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("concurrency must be positive");
+            }
+            if (claimLease.isNegative() || claimLease.isZero()) {
+                throw new IllegalArgumentException("claimLease must be positive");
+            }
+        }
+    }
+}
@@ -1,24 +1,161 @@
 package io.notifications.webhook.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.adapters.out.persistence.CachingDeliveryAttemptRepository;
+import io.notifications.webhook.adapters.out.persistence.DeliveryAttemptJdbcRepository;
+import io.notifications.webhook.adapters.out.persistence.DeliveryAttemptPartitionManager;
+import io.notifications.webhook.adapters.out.persistence.DeliveryAttemptSchemaMigration;
 import io.notifications.webhook.adapters.out.persistence.DeliveryAttemptRepositoryJpaAdapter;
 import io.notifications.webhook.adapters.out.persistence.SpringDataDeliveryAttemptJpaRepository;
+import io.notifications.webhook.adapters.out.persistence.WriteBehindDeliveryAttemptRepository;
 import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Locale;
 
 /*
- * DeliveryAttemptsPersistenceConfiguration wires the JPA adapter to the DeliveryAttemptRepository domain port.
+ * DeliveryAttemptsPersistenceConfiguration wires a persistence adapter to the DeliveryAttemptRepository domain port.
  *
  * Delivery attempts are persisted to Postgres as metadata only. Notification events remain sourced from the
  * immutable JSON snapshot. This configuration is enabled by default.
+ *
+ * app.delivery-attempts.adapter selects the adapter: jpa (default) or jdbc, which inserts with plain JDBC and
+ * writes batches as statement batches or, with app.delivery-attempts.jdbc.bulk-mode=unnest, as a single
+ * INSERT ... SELECT FROM unnest(...).
+ *
+ * With app.delivery-attempts.write-behind.enabled=true, attempts are queued in memory and written in batches
+ * by a background thread (WriteBehindDeliveryAttemptRepository), taking the insert off the delivery path.
+ *
+ * With app.delivery-attempts.partitioning.enabled=true, delivery_attempts is kept partitioned by month of
+ * attempted_at and partitions older than the retention are dropped (DeliveryAttemptPartitionManager). The
+ * manager runs before the repositories are created, after Hibernate's schema update. Setting
+ * app.delivery-attempts.replay-lookback bounds replay lookups in time so they only touch recent partitions.
+ *
+ * Before any of that, DeliveryAttemptSchemaMigration widens the attempt_type check constraint that Hibernate
+ * created for older tables, which its schema update never changes, so that RETRY attempts can be inserted.
+ *
+ * Unless app.delivery-attempts.idempotency-cache.enabled=false, the repository above (registered under the
+ * alias deliveryAttemptStore) is wrapped by CachingDeliveryAttemptRepository, which is the primary
+ * DeliveryAttemptRepository bean. Its Bloom filter is opt-in (idempotency-cache.bloom.enabled) because it
+ * only sees attempts written by this process.
  */
 @Configuration
 public class DeliveryAttemptsPersistenceConfiguration {
 
-    @Bean
+    @Bean({"deliveryAttemptRepository", "deliveryAttemptStore"})
+    @DependsOn("deliveryAttemptSchemaMigration")
+    @ConditionalOnProperty(name = "app.delivery-attempts.write-behind.enabled", havingValue = "false", matchIfMissing = true)
     public DeliveryAttemptRepository deliveryAttemptRepository(
-            SpringDataDeliveryAttemptJpaRepository jpaRepository
+            SpringDataDeliveryAttemptJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.delivery-attempts.adapter:jpa}") String adapter,
+            @Value("${app.delivery-attempts.jdbc.bulk-mode:batch}") String bulkMode,
+            @Value("${app.delivery-attempts.replay-lookback:0s}") Duration replayLookback,
+            ObjectProvider<DeliveryAttemptPartitionManager> partitionManager
+    ) {
+        // Resolved first so that delivery_attempts is partitioned before the first insert.
+        partitionManager.getIfAvailable();
+        return adapter(jpaRepository, jdbcTemplate, adapter, bulkMode, replayLookback);
+    }
+
+    @Bean(name = {"writeBehindDeliveryAttemptRepository", "deliveryAttemptStore"}, initMethod = "start", destroyMethod = "close")
+    @DependsOn("deliveryAttemptSchemaMigration")
+    @ConditionalOnProperty(name = "app.delivery-attempts.write-behind.enabled", havingValue = "true")
+    public WriteBehindDeliveryAttemptRepository writeBehindDeliveryAttemptRepository(
+            SpringDataDeliveryAttemptJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.delivery-attempts.adapter:jpa}") String adapter,
+            @Value("${app.delivery-attempts.jdbc.bulk-mode:batch}") String bulkMode,
+            @Value("${app.delivery-attempts.replay-lookback:0s}") Duration replayLookback,
+            ObjectProvider<DeliveryAttemptPartitionManager> partitionManager,
+            @Value("${app.delivery-attempts.write-behind.capacity:8192}") int capacity,
+            @Value("${app.delivery-attempts.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.delivery-attempts.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${app.delivery-attempts.write-behind.shutdown-timeout:10s}") Duration shutdownTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        // Resolved first so that delivery_attempts is partitioned before the first insert.
+        partitionManager.getIfAvailable();
+        return new WriteBehindDeliveryAttemptRepository(
+                adapter(jpaRepository, jdbcTemplate, adapter, bulkMode, replayLookback),
+                capacity,
+                batchSize,
+                flushInterval,
+                shutdownTimeout,
+                meterRegistry
+        );
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(name = "app.delivery-attempts.idempotency-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingDeliveryAttemptRepository cachingDeliveryAttemptRepository(
+            @Qualifier("deliveryAttemptStore") DeliveryAttemptRepository store,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.delivery-attempts.idempotency-cache.max-entries:100000}") int maxEntries,
+            @Value("${app.delivery-attempts.idempotency-cache.ttl:10m}") Duration ttl,
+            @Value("${app.delivery-attempts.idempotency-cache.bloom.enabled:false}") boolean bloomEnabled,
+            @Value("${app.delivery-attempts.idempotency-cache.bloom.expected-keys:10000000}") long bloomExpectedKeys,
+            @Value("${app.delivery-attempts.idempotency-cache.bloom.false-positive-probability:0.01}") double bloomFalsePositiveProbability,
+            MeterRegistry meterRegistry
+    ) {
+        if (!bloomEnabled) {
+            return new CachingDeliveryAttemptRepository(store, maxEntries, ttl, meterRegistry);
+        }
+        return new CachingDeliveryAttemptRepository(
+                store,
+                maxEntries,
+                ttl,
+                jdbcTemplate,
+                bloomExpectedKeys,
+                bloomFalsePositiveProbability,
+                meterRegistry
+        );
+    }
+
+    @Bean(initMethod = "run")
+    @DependsOn("entityManagerFactory")
+    public DeliveryAttemptSchemaMigration deliveryAttemptSchemaMigration(JdbcTemplate jdbcTemplate) {
+        return new DeliveryAttemptSchemaMigration(jdbcTemplate);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @DependsOn({"entityManagerFactory", "deliveryAttemptSchemaMigration"})
+    @ConditionalOnProperty(name = "app.delivery-attempts.partitioning.enabled", havingValue = "true")
+    public DeliveryAttemptPartitionManager deliveryAttemptPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.delivery-attempts.partitioning.premake-months:3}") int premakeMonths,
+            @Value("${app.delivery-attempts.partitioning.retention:400d}") Duration retention,
+            @Value("${app.delivery-attempts.partitioning.check-interval:1h}") Duration checkInterval,
+            MeterRegistry meterRegistry
+    ) {
+        return new DeliveryAttemptPartitionManager(jdbcTemplate, premakeMonths, retention, checkInterval, meterRegistry);
+    }
+
+    private static DeliveryAttemptRepository adapter(
+            SpringDataDeliveryAttemptJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate,
+            String adapter,
+            String bulkMode,
+            Duration replayLookback
     ) {
-        return new DeliveryAttemptRepositoryJpaAdapter(jpaRepository);
+        return switch (adapter.trim().toLowerCase(Locale.ROOT)) {
+            case "jpa" -> new DeliveryAttemptRepositoryJpaAdapter(jpaRepository, replayLookback);
+            case "jdbc" -> new DeliveryAttemptJdbcRepository(
+                    jdbcTemplate,
+                    DeliveryAttemptJdbcRepository.BulkMode.valueOf(bulkMode.trim().toUpperCase(Locale.ROOT)),
+                    replayLookback
+            );
+            default -> throw new IllegalArgumentException("Unsupported app.delivery-attempts.adapter: " + adapter);
+        };
     }
-}
\ No newline at end of file
+}
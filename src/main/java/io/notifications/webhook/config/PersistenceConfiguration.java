@@ -1,11 +1,18 @@
 package io.notifications.webhook.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.adapters.out.persistence.NotificationEventBulkLoader;
 import io.notifications.webhook.adapters.out.persistence.NotificationEventRepositoryJpaAdapter;
 import io.notifications.webhook.adapters.out.persistence.SpringDataNotificationEventJpaRepository;
+import io.notifications.webhook.domain.ports.out.EventSource;
 import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /*
  * PersistenceConfiguration wires the JPA adapter to the NotificationEventRepository domain port.
@@ -15,6 +22,10 @@ import org.springframework.context.annotation.Configuration;
  *
  * To enable the JPA-backed repository for events, set:
  *   events.repository=jpa
+ *
+ * The table can be seeded from the configured EventSource at startup with a batched JDBC upsert:
+ *   events.bulk-load.enabled=true
+ *   events.bulk-load.batch-size=5000
  */
 @Configuration
 @ConditionalOnProperty(name = "events.repository", havingValue = "jpa")
@@ -22,8 +33,28 @@ public class PersistenceConfiguration {
 
     @Bean
     public NotificationEventRepository notificationEventRepository(
-            SpringDataNotificationEventJpaRepository jpaRepository
+            SpringDataNotificationEventJpaRepository jpaRepository,
+            EntityManager entityManager
+    ) {
+        return new NotificationEventRepositoryJpaAdapter(jpaRepository, entityManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "events.bulk-load.enabled", havingValue = "true")
+    public NotificationEventBulkLoader notificationEventBulkLoader(
+            JdbcTemplate jdbcTemplate,
+            @Value("${events.bulk-load.batch-size:5000}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        return new NotificationEventBulkLoader(jdbcTemplate, batchSize, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "events.bulk-load.enabled", havingValue = "true")
+    public ApplicationRunner notificationEventBulkLoadRunner(
+            NotificationEventBulkLoader bulkLoader,
+            EventSource eventSource
     ) {
-        return new NotificationEventRepositoryJpaAdapter(jpaRepository);
+        return args -> bulkLoader.load(eventSource);
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package io.notifications.webhook.config;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.notifications.webhook.domain.model.DeliveryQueueFull;
 import io.notifications.webhook.domain.model.NotificationEventNotFound;
 import io.notifications.webhook.domain.model.ReplayNotAllowed;
 import io.notifications.webhook.domain.ports.in.ReplayNotificationEventUseCase;
@@ -13,7 +14,7 @@ import java.util.Objects;
  * keeping the domain layer framework-free.
  *
  * Metrics:
- * - notification_replay_total{result=accepted|rejected|not_found|failure}
+ * - notification_replay_total{result=accepted|rejected|not_found|queue_full|failure}
  */
 public final class ReplayNotificationEventUseCaseObservabilityDecorator implements ReplayNotificationEventUseCase {
 
@@ -22,6 +23,7 @@ public final class ReplayNotificationEventUseCaseObservabilityDecorator implemen
     private final Counter acceptedCounter;
     private final Counter rejectedCounter;
     private final Counter notFoundCounter;
+    private final Counter queueFullCounter;
     private final Counter failureCounter;
 
     public ReplayNotificationEventUseCaseObservabilityDecorator(
@@ -34,6 +36,7 @@ public final class ReplayNotificationEventUseCaseObservabilityDecorator implemen
         this.acceptedCounter = Counter.builder("notification_replay_total").tag("result", "accepted").register(registry);
         this.rejectedCounter = Counter.builder("notification_replay_total").tag("result", "rejected").register(registry);
         this.notFoundCounter = Counter.builder("notification_replay_total").tag("result", "not_found").register(registry);
+        this.queueFullCounter = Counter.builder("notification_replay_total").tag("result", "queue_full").register(registry);
         this.failureCounter = Counter.builder("notification_replay_total").tag("result", "failure").register(registry);
     }
 
@@ -49,6 +52,9 @@ public final class ReplayNotificationEventUseCaseObservabilityDecorator implemen
         } catch (ReplayNotAllowed ex) {
             rejectedCounter.increment();
             throw ex;
+        } catch (DeliveryQueueFull ex) {
+            queueFullCounter.increment();
+            throw ex;
         } catch (RuntimeException ex) {
             failureCounter.increment();
             throw ex;
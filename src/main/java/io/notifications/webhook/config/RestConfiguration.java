@@ -6,9 +6,9 @@ import io.notifications.webhook.domain.ports.in.GetNotificationEventUseCase;
 import io.notifications.webhook.domain.ports.in.QueryNotificationEventsUseCase;
 import io.notifications.webhook.domain.ports.in.ReplayNotificationEventUseCase;
 import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import io.notifications.webhook.domain.ports.out.DeliveryDispatcher;
 import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
 import io.notifications.webhook.domain.ports.out.SubscriptionRegistry;
-import io.notifications.webhook.domain.ports.out.WebhookSender;
 import io.notifications.webhook.domain.usecase.GetNotificationEventService;
 import io.notifications.webhook.domain.usecase.QueryNotificationEventsService;
 import io.notifications.webhook.domain.usecase.ReplayNotificationEventService;
@@ -41,14 +41,14 @@ public class RestConfiguration {
     @Bean
     public ReplayNotificationEventUseCase replayNotificationEventUseCase(
             NotificationEventRepository notificationEventRepository,
-            WebhookSender webhookSender,
+            DeliveryDispatcher deliveryDispatcher,
             SubscriptionRegistry subscriptionRegistry,
             DeliveryAttemptRepository deliveryAttemptRepository,
             MeterRegistry meterRegistry
     ) {
         ReplayNotificationEventUseCase delegate = new ReplayNotificationEventService(
                 notificationEventRepository,
-                webhookSender,
+                deliveryDispatcher,
                 subscriptionRegistry,
                 deliveryAttemptRepository
         );
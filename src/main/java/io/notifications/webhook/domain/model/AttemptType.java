@@ -3,8 +3,10 @@ package io.notifications.webhook.domain.model;
 /*
  * AttemptType represents the kind of delivery attempt being recorded.
  *
- * This challenge focuses on manual replay attempts triggered via the self-service API.
+ * REPLAY attempts are triggered manually via the self-service API. RETRY attempts are scheduled automatically
+ * after a failed delivery, following the configured RetryPolicy.
  */
 public enum AttemptType {
-    REPLAY
-}
\ No newline at end of file
+    REPLAY,
+    RETRY
+}
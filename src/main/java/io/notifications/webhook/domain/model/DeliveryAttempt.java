@@ -77,6 +77,36 @@ public final class DeliveryAttempt {
             long durationMs,
             Optional<String> correlationId
     ) {
+        return attempt(AttemptType.REPLAY, eventId, clientId, targetUrl, result, httpStatus, errorMessage, attemptedAt, durationMs, correlationId);
+    }
+
+    public static DeliveryAttempt retryAttempt(
+            NotificationEventId eventId,
+            ClientId clientId,
+            String targetUrl,
+            DeliveryAttemptResult result,
+            Optional<Integer> httpStatus,
+            Optional<String> errorMessage,
+            Instant attemptedAt,
+            long durationMs,
+            Optional<String> correlationId
+    ) {
+        return attempt(AttemptType.RETRY, eventId, clientId, targetUrl, result, httpStatus, errorMessage, attemptedAt, durationMs, correlationId);
+    }
+
+    public static DeliveryAttempt attempt(
+            AttemptType attemptType,
+            NotificationEventId eventId,
+            ClientId clientId,
+            String targetUrl,
+            DeliveryAttemptResult result,
+            Optional<Integer> httpStatus,
+            Optional<String> errorMessage,
+            Instant attemptedAt,
+            long durationMs,
+            Optional<String> correlationId
+    ) {
+        Objects.requireNonNull(attemptType, "attemptType must not be null");
         Objects.requireNonNull(eventId, "eventId must not be null");
         Objects.requireNonNull(clientId, "clientId must not be null");
         Objects.requireNonNull(result, "result must not be null");
@@ -94,11 +124,11 @@ public final class DeliveryAttempt {
                 .filter(s -> !s.isBlank());
 
         return new DeliveryAttempt(
-                UUID.randomUUID(),
+                TimeOrderedUuid.next(),
                 eventId,
                 clientId,
                 targetUrl,
-                AttemptType.REPLAY,
+                attemptType,
                 result,
                 httpStatus,
                 sanitizedError,
@@ -0,0 +1,40 @@
+package io.notifications.webhook.domain.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+ * DeliveryJob is a request to deliver a notification event to a client's webhook, accepted by the
+ * replay use case and executed later by a DeliveryDispatcher.
+ *
+ * correlationId carries the normalized idempotency key, when one was provided.
+ */
+public final class DeliveryJob {
+
+    private final ClientId clientId;
+    private final NotificationEvent notificationEvent;
+    private final Optional<String> correlationId;
+
+    private DeliveryJob(ClientId clientId, NotificationEvent notificationEvent, Optional<String> correlationId) {
+        this.clientId = Objects.requireNonNull(clientId, "clientId must not be null");
+        this.notificationEvent = Objects.requireNonNull(notificationEvent, "notificationEvent must not be null");
+        this.correlationId = Objects.requireNonNull(correlationId, "correlationId must not be null");
+        notificationEvent.assertBelongsTo(clientId);
+    }
+
+    public static DeliveryJob of(ClientId clientId, NotificationEvent notificationEvent, Optional<String> correlationId) {
+        return new DeliveryJob(clientId, notificationEvent, correlationId);
+    }
+
+    public ClientId clientId() {
+        return clientId;
+    }
+
+    public NotificationEvent notificationEvent() {
+        return notificationEvent;
+    }
+
+    public Optional<String> correlationId() {
+        return correlationId;
+    }
+}
@@ -0,0 +1,14 @@
+package io.notifications.webhook.domain.model;
+
+/*
+ * DeliveryQueueFull is a domain-level exception thrown when a delivery job cannot be accepted because
+ * the dispatcher is at capacity. Callers should retry later; nothing has been sent.
+ */
+public final class DeliveryQueueFull extends RuntimeException {
+
+    public DeliveryQueueFull(NotificationEventId id) {
+        super("Delivery queue is full; replay of NotificationEvent " +
+                (id == null ? "null" : id.value()) +
+                " was not accepted");
+    }
+}
@@ -0,0 +1,60 @@
+package io.notifications.webhook.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/*
+ * NotificationEventCursor is a domain value object that marks a position in a client's event history
+ * ordered by (deliveryDate, eventId).
+ *
+ * A page query resumes strictly after the cursor, so the cost of fetching a page does not depend on how
+ * many pages came before it (keyset pagination).
+ */
+public final class NotificationEventCursor {
+
+    private final Instant deliveryDate;
+    private final NotificationEventId eventId;
+
+    private NotificationEventCursor(Instant deliveryDate, NotificationEventId eventId) {
+        this.deliveryDate = Objects.requireNonNull(deliveryDate, "deliveryDate must not be null");
+        this.eventId = Objects.requireNonNull(eventId, "eventId must not be null");
+    }
+
+    public static NotificationEventCursor of(Instant deliveryDate, NotificationEventId eventId) {
+        return new NotificationEventCursor(deliveryDate, eventId);
+    }
+
+    public static NotificationEventCursor after(NotificationEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        return new NotificationEventCursor(event.deliveryDate(), event.id());
+    }
+
+    public Instant deliveryDate() {
+        return deliveryDate;
+    }
+
+    public NotificationEventId eventId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NotificationEventCursor that)) return false;
+        return Objects.equals(deliveryDate, that.deliveryDate)
+                && Objects.equals(eventId, that.eventId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(deliveryDate, eventId);
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationEventCursor{" +
+                "deliveryDate=" + deliveryDate +
+                ", eventId=" + eventId +
+                '}';
+    }
+}
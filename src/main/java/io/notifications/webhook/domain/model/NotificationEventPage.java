@@ -0,0 +1,50 @@
+package io.notifications.webhook.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+ * NotificationEventPage is one page of a client's notification events in (deliveryDate, eventId) order.
+ *
+ * nextCursor is present when more events match the query after the last event of this page.
+ */
+public final class NotificationEventPage {
+
+    private final List<NotificationEvent> events;
+    private final Optional<NotificationEventCursor> nextCursor;
+
+    private NotificationEventPage(List<NotificationEvent> events, Optional<NotificationEventCursor> nextCursor) {
+        this.events = Objects.requireNonNull(events, "events must not be null");
+        this.nextCursor = Objects.requireNonNull(nextCursor, "nextCursor must not be null");
+    }
+
+    public static NotificationEventPage of(List<NotificationEvent> events, NotificationEventCursor nextCursor) {
+        return new NotificationEventPage(events, Optional.ofNullable(nextCursor));
+    }
+
+    public static NotificationEventPage last(List<NotificationEvent> events) {
+        return new NotificationEventPage(events, Optional.empty());
+    }
+
+    /*
+     * Builds a page from up to limit + 1 events read in order: the extra event, if any, only signals that
+     * another page exists and is not returned.
+     */
+    public static NotificationEventPage fromLookahead(List<NotificationEvent> events, int limit) {
+        Objects.requireNonNull(events, "events must not be null");
+        if (events.size() <= limit) {
+            return last(events);
+        }
+        List<NotificationEvent> page = events.subList(0, limit);
+        return of(page, NotificationEventCursor.after(page.get(limit - 1)));
+    }
+
+    public List<NotificationEvent> events() {
+        return events;
+    }
+
+    public Optional<NotificationEventCursor> nextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,85 @@
+package io.notifications.webhook.domain.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/*
+ * RetryPolicy describes how failed deliveries of a notification event are retried automatically.
+ *
+ * maxAttempts counts every delivery of the event, including the first one. The wait before retry n (n >= 1)
+ * uses exponential backoff with full jitter: a uniformly random duration between zero and
+ * min(maxDelay, baseDelay * multiplier^(n - 1)). Full jitter spreads retries of events that failed together,
+ * so a recovering endpoint is not hit by synchronized waves.
+ */
+public final class RetryPolicy {
+
+    private final Duration baseDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+    private final int maxAttempts;
+
+    private RetryPolicy(Duration baseDelay, double multiplier, Duration maxDelay, int maxAttempts) {
+        this.baseDelay = Objects.requireNonNull(baseDelay, "baseDelay must not be null");
+        this.maxDelay = Objects.requireNonNull(maxDelay, "maxDelay must not be null");
+        if (baseDelay.isNegative() || baseDelay.isZero()) {
+            throw new IllegalArgumentException("baseDelay must be positive");
+        }
+        if (maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must be >= baseDelay");
+        }
+        if (!(multiplier >= 1.0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("multiplier must be >= 1");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1");
+        }
+        this.multiplier = multiplier;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public static RetryPolicy of(Duration baseDelay, double multiplier, Duration maxDelay, int maxAttempts) {
+        return new RetryPolicy(baseDelay, multiplier, maxDelay, maxAttempts);
+    }
+
+    /*
+     * Returns true if a delivery that has already been attempted attemptsMade times may be attempted again.
+     */
+    public boolean allowsRetryAfter(int attemptsMade) {
+        return attemptsMade < maxAttempts;
+    }
+
+    /*
+     * Upper bound of the wait before the given retry (1 for the first retry).
+     */
+    public Duration backoffCeiling(int retryNumber) {
+        if (retryNumber < 1) {
+            throw new IllegalArgumentException("retryNumber must be >= 1");
+        }
+        double ceilingMs = baseDelay.toMillis() * Math.pow(multiplier, retryNumber - 1);
+        long maxMs = maxDelay.toMillis();
+        return Duration.ofMillis(ceilingMs >= maxMs ? maxMs : (long) ceilingMs);
+    }
+
+    public Duration delayBeforeRetry(int retryNumber, RandomGenerator random) {
+        Objects.requireNonNull(random, "random must not be null");
+        long ceilingMs = backoffCeiling(retryNumber).toMillis();
+        return Duration.ofMillis(random.nextLong(ceilingMs + 1));
+    }
+
+    public Duration baseDelay() {
+        return baseDelay;
+    }
+
+    public double multiplier() {
+        return multiplier;
+    }
+
+    public Duration maxDelay() {
+        return maxDelay;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+}
@@ -0,0 +1,46 @@
+package io.notifications.webhook.domain.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * TimeOrderedUuid generates RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp, a 12-bit sequence
+ * in rand_a and 62 random bits in rand_b.
+ *
+ * Ids are strictly increasing across all threads of the process. The timestamp and sequence share one
+ * AtomicLong (millis << 12 | sequence) advanced with a CAS, so ids generated in the same millisecond take
+ * consecutive sequence numbers. When the 4096 sequence numbers of a millisecond are used up, or the system
+ * clock steps back, the timestamp field runs ahead of the clock until the clock catches up.
+ *
+ * Keys generated this way are appended at the right edge of a B-tree index instead of landing on random
+ * pages. next() allocates only the returned UUID.
+ */
+public final class TimeOrderedUuid {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long clock = System.currentTimeMillis() << SEQUENCE_BITS;
+        long last;
+        long claimed;
+        do {
+            last = LAST.get();
+            claimed = Math.max(clock, last + 1);
+        } while (!LAST.compareAndSet(last, claimed));
+
+        long millis = claimed >>> SEQUENCE_BITS;
+        long mostSigBits = (millis << 16) | VERSION_7 | (claimed & SEQUENCE_MASK);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -2,19 +2,27 @@ package io.notifications.webhook.domain.ports.in;
 
 import io.notifications.webhook.domain.model.ClientId;
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventCursor;
 import io.notifications.webhook.domain.model.NotificationEventFilter;
+import io.notifications.webhook.domain.model.NotificationEventPage;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /*
  * QueryNotificationEventsUseCase exposes a domain-facing operation to query notification events for a client.
  * It supports optional filtering criteria while enforcing client isolation as a first-class input.
+ *
+ * queryPage returns one page of at most limit events ordered by (deliveryDate, eventId), resuming after an
+ * optional cursor taken from the previous page.
  */
 public interface QueryNotificationEventsUseCase {
 
     List<NotificationEvent> query(Query query);
 
+    NotificationEventPage queryPage(PageQuery query);
+
     final class Query {
 
         private final ClientId clientId;
@@ -33,4 +41,40 @@ public interface QueryNotificationEventsUseCase {
             return filter;
         }
     }
+
+    final class PageQuery {
+
+        public static final int MAX_LIMIT = 1000;
+
+        private final ClientId clientId;
+        private final NotificationEventFilter filter;
+        private final Optional<NotificationEventCursor> after;
+        private final int limit;
+
+        public PageQuery(ClientId clientId, NotificationEventFilter filter, Optional<NotificationEventCursor> after, int limit) {
+            this.clientId = Objects.requireNonNull(clientId, "clientId must not be null");
+            this.filter = Objects.requireNonNull(filter, "filter must not be null");
+            this.after = Objects.requireNonNull(after, "after must not be null");
+            if (limit < 1 || limit > MAX_LIMIT) {
+                throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+            }
+            this.limit = limit;
+        }
+
+        public ClientId clientId() {
+            return clientId;
+        }
+
+        public NotificationEventFilter filter() {
+            return filter;
+        }
+
+        public Optional<NotificationEventCursor> after() {
+            return after;
+        }
+
+        public int limit() {
+            return limit;
+        }
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import io.notifications.webhook.domain.model.DeliveryAttempt;
 import io.notifications.webhook.domain.model.NotificationEventId;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -21,6 +22,14 @@ public interface DeliveryAttemptRepository {
 
     void save(DeliveryAttempt attempt);
 
+    /*
+     * Persists several attempts. Adapters that can write them in one round trip should override this.
+     */
+    default void saveAll(List<DeliveryAttempt> attempts) {
+        Objects.requireNonNull(attempts, "attempts must not be null");
+        attempts.forEach(this::save);
+    }
+
     Optional<Instant> findReplayAttemptedAt(ClientId clientId, NotificationEventId eventId, String correlationId);
 
     static void requireValid(DeliveryAttempt attempt) {
@@ -0,0 +1,15 @@
+package io.notifications.webhook.domain.ports.out;
+
+import io.notifications.webhook.domain.model.DeliveryJob;
+
+/*
+ * DeliveryDispatcher is an outbound port that accepts delivery jobs for execution.
+ *
+ * Implementations may deliver synchronously or hand the job to background workers; in the latter case
+ * dispatch returns as soon as the job is accepted. When the job cannot be accepted, implementations
+ * throw DeliveryQueueFull rather than blocking the caller.
+ */
+public interface DeliveryDispatcher {
+
+    void dispatch(DeliveryJob job);
+}
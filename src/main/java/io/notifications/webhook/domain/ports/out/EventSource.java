@@ -3,12 +3,20 @@ package io.notifications.webhook.domain.ports.out;
 import io.notifications.webhook.domain.model.NotificationEvent;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /*
  * EventSource is an outbound port that provides the initial set of notification events to the application.
  * Implementations may read from JSON, a database, or any other source, but the domain remains independent.
+ *
+ * forEach streams events to a consumer one at a time. Sources that can avoid materializing the whole
+ * dataset should override it; the default delegates to loadAll.
  */
 public interface EventSource {
 
     List<NotificationEvent> loadAll();
+
+    default void forEach(Consumer<NotificationEvent> consumer) {
+        loadAll().forEach(consumer);
+    }
 }
\ No newline at end of file
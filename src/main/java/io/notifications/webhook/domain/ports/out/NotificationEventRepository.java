@@ -2,8 +2,10 @@ package io.notifications.webhook.domain.ports.out;
 
 import io.notifications.webhook.domain.model.ClientId;
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventCursor;
 import io.notifications.webhook.domain.model.NotificationEventFilter;
 import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.model.NotificationEventPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,11 +13,21 @@ import java.util.Optional;
 /*
  * NotificationEventRepository is an outbound port that abstracts persistence for notification events.
  * It must enforce client isolation at the query level and provide retrieval operations needed by use cases.
+ *
+ * findPageByClientId returns events in (deliveryDate, eventId) order, starting strictly after the given
+ * cursor, and must read no more than limit + 1 matching events.
  */
 public interface NotificationEventRepository {
 
     List<NotificationEvent> findByClientId(ClientId clientId, NotificationEventFilter filter);
 
+    NotificationEventPage findPageByClientId(
+            ClientId clientId,
+            NotificationEventFilter filter,
+            Optional<NotificationEventCursor> after,
+            int limit
+    );
+
     Optional<NotificationEvent> findByClientIdAndId(ClientId clientId, NotificationEventId id);
 
     void save(NotificationEvent notificationEvent);
@@ -0,0 +1,14 @@
+package io.notifications.webhook.domain.ports.out;
+
+import io.notifications.webhook.domain.model.ClientId;
+
+/*
+ * WebhookEndpointRegistry is an outbound domain port that resolves where a client's webhooks are delivered.
+ *
+ * Implementations return an absolute https URL; every client resolves to an endpoint (a registry may fall
+ * back to a default target).
+ */
+public interface WebhookEndpointRegistry {
+
+    String targetUrl(ClientId clientId);
+}
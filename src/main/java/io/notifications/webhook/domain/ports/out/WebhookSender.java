@@ -6,12 +6,18 @@ import io.notifications.webhook.domain.model.NotificationEvent;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /*
  * WebhookSender is an outbound port responsible for delivering notification events via HTTPS webhooks.
  *
  * This port supports optional idempotency correlation for replay deliveries. The default implementation
  * ignores correlationId to preserve backward compatibility with existing senders.
+ *
+ * sendAsync starts a delivery without blocking the caller. Non-blocking senders override it; the default
+ * runs the blocking send on a new virtual thread and completes the returned stage with its result, so
+ * callers such as the delivery dispatcher can start many deliveries from a single thread either way.
  */
 public interface WebhookSender {
 
@@ -21,6 +27,22 @@ public interface WebhookSender {
         return send(clientId, notificationEvent);
     }
 
+    default CompletionStage<DeliveryResult> sendAsync(
+            ClientId clientId,
+            NotificationEvent notificationEvent,
+            Optional<String> correlationId
+    ) {
+        CompletableFuture<DeliveryResult> result = new CompletableFuture<>();
+        Thread.ofVirtual().name("webhook-send").start(() -> {
+            try {
+                result.complete(send(clientId, notificationEvent, correlationId));
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
     final class DeliveryResult {
 
         private final boolean delivered;
@@ -1,6 +1,7 @@
 package io.notifications.webhook.domain.usecase;
 
 import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventPage;
 import io.notifications.webhook.domain.ports.in.QueryNotificationEventsUseCase;
 import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
 
@@ -24,4 +25,10 @@ public final class QueryNotificationEventsService implements QueryNotificationEv
         Objects.requireNonNull(query, "query must not be null");
         return notificationEventRepository.findByClientId(query.clientId(), query.filter());
     }
+
+    @Override
+    public NotificationEventPage queryPage(PageQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+        return notificationEventRepository.findPageByClientId(query.clientId(), query.filter(), query.after(), query.limit());
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.notifications.webhook.domain.usecase;
 
 import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryJob;
 import io.notifications.webhook.domain.model.DeliveryStatus;
 import io.notifications.webhook.domain.model.NotificationEvent;
 import io.notifications.webhook.domain.model.NotificationEventId;
@@ -8,9 +9,9 @@ import io.notifications.webhook.domain.model.NotificationEventNotFound;
 import io.notifications.webhook.domain.model.ReplayNotAllowed;
 import io.notifications.webhook.domain.ports.in.ReplayNotificationEventUseCase;
 import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import io.notifications.webhook.domain.ports.out.DeliveryDispatcher;
 import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
 import io.notifications.webhook.domain.ports.out.SubscriptionRegistry;
-import io.notifications.webhook.domain.ports.out.WebhookSender;
 
 import java.time.Instant;
 import java.util.Objects;
@@ -29,23 +30,24 @@ import java.util.Optional;
  * - If a prior delivery_attempts row exists for (event_id, client_id, correlation_id), the webhook is not re-sent.
  *
  * The dataset is immutable; this service does not update or persist events.
- * It delegates webhook delivery to the WebhookSender outbound port.
+ * It validates the request and hands a DeliveryJob to the DeliveryDispatcher outbound port; the webhook
+ * itself may be sent after this method returns.
  */
 public final class ReplayNotificationEventService implements ReplayNotificationEventUseCase {
 
     private final NotificationEventRepository notificationEventRepository;
-    private final WebhookSender webhookSender;
+    private final DeliveryDispatcher deliveryDispatcher;
     private final SubscriptionRegistry subscriptionRegistry;
     private final DeliveryAttemptRepository deliveryAttemptRepository;
 
     public ReplayNotificationEventService(
             NotificationEventRepository notificationEventRepository,
-            WebhookSender webhookSender,
+            DeliveryDispatcher deliveryDispatcher,
             SubscriptionRegistry subscriptionRegistry,
             DeliveryAttemptRepository deliveryAttemptRepository
     ) {
         this.notificationEventRepository = Objects.requireNonNull(notificationEventRepository, "notificationEventRepository must not be null");
-        this.webhookSender = Objects.requireNonNull(webhookSender, "webhookSender must not be null");
+        this.deliveryDispatcher = Objects.requireNonNull(deliveryDispatcher, "deliveryDispatcher must not be null");
         this.subscriptionRegistry = Objects.requireNonNull(subscriptionRegistry, "subscriptionRegistry must not be null");
         this.deliveryAttemptRepository = Objects.requireNonNull(deliveryAttemptRepository, "deliveryAttemptRepository must not be null");
     }
@@ -88,7 +90,7 @@ public final class ReplayNotificationEventService implements ReplayNotificationE
             }
         }
 
-        webhookSender.send(clientId, notificationEvent, correlationId);
+        deliveryDispatcher.dispatch(DeliveryJob.of(clientId, notificationEvent, correlationId));
 
         return Result.accepted(Instant.now());
     }
@@ -0,0 +1,104 @@
+package io.notifications.webhook.adapters.out.delivery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.notifications.webhook.domain.model.ClientId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientFairQueueTest {
+
+	private static final ClientId FLOODING = ClientId.of("CLIENT001");
+	private static final ClientId SMALL = ClientId.of("CLIENT002");
+
+	@Test
+	void aOneJobClientIsServedWithinOneRoundWhileAnotherLaneHoldsThousands() throws InterruptedException {
+		int floodingWeight = 4;
+		ClientFairQueue<String> queue = queue(policy(Map.of(FLOODING, floodingWeight), Map.of(), 10_000), 20_000);
+		for (int i = 0; i < 5_000; i++) {
+			queue.offer(FLOODING, "flood-" + i);
+		}
+		// The flooding lane is mid-turn when the small client arrives.
+		assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo("flood-0");
+		queue.complete(FLOODING);
+		queue.offer(SMALL, "small");
+
+		List<String> started = new ArrayList<>();
+		for (int i = 0; i < floodingWeight; i++) {
+			String job = queue.poll(0, TimeUnit.MILLISECONDS);
+			started.add(job);
+			queue.complete(job.equals("small") ? SMALL : FLOODING);
+		}
+
+		assertThat(started).contains("small");
+		assertThat(queue.size()).isEqualTo(5_000 - floodingWeight);
+	}
+
+	@Test
+	void lanesShareRoundsByWeight() throws InterruptedException {
+		ClientFairQueue<String> queue = queue(policy(Map.of(FLOODING, 3), Map.of(), 1_000), 2_000);
+		for (int i = 0; i < 100; i++) {
+			queue.offer(FLOODING, "A");
+			queue.offer(SMALL, "B");
+		}
+
+		StringBuilder order = new StringBuilder();
+		for (int i = 0; i < 12; i++) {
+			String job = queue.poll(0, TimeUnit.MILLISECONDS);
+			order.append(job);
+			queue.complete(job.equals("A") ? FLOODING : SMALL);
+		}
+
+		assertThat(order).hasToString("AAABAAABAAAB");
+	}
+
+	@Test
+	void aLaneAtItsConcurrencyCapIsSkippedUntilAJobCompletes() throws InterruptedException {
+		ClientFairQueue<String> queue = queue(policy(Map.of(FLOODING, 10), Map.of(FLOODING, 2), 1_000), 2_000);
+		for (int i = 0; i < 100; i++) {
+			queue.offer(FLOODING, "flood-" + i);
+		}
+		queue.offer(SMALL, "small");
+
+		assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo("flood-0");
+		assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo("flood-1");
+		// The flooding lane still has credit but is at its cap of two.
+		assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo("small");
+		assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isNull();
+
+		queue.complete(FLOODING);
+		assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isEqualTo("flood-2");
+		assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	void rejectsOffersOverTheLaneOrTotalCapacity() {
+		ClientFairQueue<String> queue = queue(policy(Map.of(), Map.of(), 3), 5);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(queue.offer(FLOODING, "A")).isTrue();
+		}
+		assertThat(queue.offer(FLOODING, "A")).isFalse();
+		assertThat(queue.offer(SMALL, "B")).isTrue();
+		assertThat(queue.offer(SMALL, "B")).isTrue();
+		assertThat(queue.offer(SMALL, "B")).isFalse();
+		assertThat(queue.size()).isEqualTo(5);
+	}
+
+	private static ClientFairnessPolicy policy(
+			Map<ClientId, Integer> weights,
+			Map<ClientId, Integer> maxConcurrency,
+			int laneCapacity
+	) {
+		return new ClientFairnessPolicy(1, 1_000, laneCapacity, weights, maxConcurrency);
+	}
+
+	private static ClientFairQueue<String> queue(ClientFairnessPolicy policy, int capacity) {
+		return new ClientFairQueue<>(policy, capacity, new SimpleMeterRegistry());
+	}
+}
@@ -0,0 +1,78 @@
+package io.notifications.webhook.adapters.out.json;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.notifications.webhook.adapters.out.json.mapper.NotificationEventJsonMapper;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotReloaderTest {
+
+	private static final ClientId CLIENT = ClientId.of("CLIENT001");
+
+	@TempDir
+	Path dir;
+
+	private SnapshotReloader reloader;
+
+	@AfterEach
+	void tearDown() {
+		if (reloader != null) {
+			reloader.close();
+		}
+	}
+
+	@Test
+	void picksUpAFileReplacedBetweenTheInitialLoadAndStart() throws IOException {
+		Path snapshot = dir.resolve("events.json");
+		replace(snapshot, "EVT001");
+		JsonEventSourceAdapter source = new JsonEventSourceAdapter(JsonMapper.builder().build(), new NotificationEventJsonMapper(), snapshot);
+		JsonNotificationEventRepositoryAdapter repository = new JsonNotificationEventRepositoryAdapter(source, new SimpleMeterRegistry());
+
+		replace(snapshot, "EVT001", "EVT002");
+		reloader = new SnapshotReloader(source, repository, Duration.ofHours(1));
+		reloader.start();
+		reloader.poll();
+
+		assertThat(repository.snapshotVersion()).isEqualTo(2L);
+		assertThat(repository.findByClientIdAndId(CLIENT, NotificationEventId.of("EVT002"))).isPresent();
+	}
+
+	@Test
+	void doesNotReloadAnUnchangedFile() throws IOException {
+		Path snapshot = dir.resolve("events.json");
+		replace(snapshot, "EVT001");
+		JsonEventSourceAdapter source = new JsonEventSourceAdapter(JsonMapper.builder().build(), new NotificationEventJsonMapper(), snapshot);
+		JsonNotificationEventRepositoryAdapter repository = new JsonNotificationEventRepositoryAdapter(source, new SimpleMeterRegistry());
+
+		reloader = new SnapshotReloader(source, repository, Duration.ofHours(1));
+		reloader.start();
+		reloader.poll();
+
+		assertThat(repository.snapshotVersion()).isEqualTo(1L);
+	}
+
+	private void replace(Path snapshot, String... eventIds) throws IOException {
+		String events = Arrays.stream(eventIds)
+				.map(id -> """
+						{"event_id": "%s", "event_type": "credit_transfer", "content": "Transfer %s",
+						 "delivery_date": "2024-03-15T09:30:22Z", "delivery_status": "completed", "client_id": "CLIENT001"}"""
+						.formatted(id, id))
+				.collect(Collectors.joining(",", "{\"events\": [", "]}"));
+		Path written = Files.writeString(Files.createTempFile(dir, "events", ".json"), events);
+		Files.move(written, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+}
@@ -0,0 +1,84 @@
+package io.notifications.webhook.adapters.out.json.binary;
+
+import io.notifications.webhook.adapters.out.json.index.NotificationEventIndex;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.EventType;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinarySnapshotCompilerTest {
+
+	private static final ClientId CLIENT_A = ClientId.of("CLIENT001");
+	private static final ClientId CLIENT_B = ClientId.of("CLIENT002");
+	private static final Instant DAY_1 = Instant.parse("2024-01-01T00:00:00Z");
+	private static final Instant DAY_2 = Instant.parse("2024-01-02T00:00:00Z");
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void writesEachClientsRowsInDeliveryOrder() {
+		List<NotificationEvent> events = List.of(
+				event("EVT-5", CLIENT_A, DAY_2, "a-late"),
+				event("EVT-9", CLIENT_B, DAY_1, "b"),
+				event("EVT-3", CLIENT_A, DAY_1, "a-tie-second"),
+				event("EVT-10", CLIENT_A, DAY_1, "a-tie-first"),
+				event("EVT-1", CLIENT_B, DAY_2, "b-late")
+		);
+		Path snapshot = dir.resolve("events.bin");
+
+		assertThat(new BinarySnapshotCompiler().compile(() -> events, snapshot)).isEqualTo(5);
+
+		MappedBinaryEventSource source = MappedBinaryEventSource.open(snapshot);
+		assertThat(source.deliveryOrdered()).isTrue();
+		List<String> rows = new ArrayList<>();
+		source.forEach(event -> rows.add(event.clientId().value() + "/" + event.id().value() + "/" + event.content()));
+		assertThat(rows).containsExactly(
+				"CLIENT001/EVT-10/a-tie-first",
+				"CLIENT001/EVT-3/a-tie-second",
+				"CLIENT001/EVT-5/a-late",
+				"CLIENT002/EVT-9/b",
+				"CLIENT002/EVT-1/b-late"
+		);
+	}
+
+	@Test
+	void indexBuiltFromTheOrderedRowsServesQueries() {
+		List<NotificationEvent> events = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			events.add(event("EVT-" + i, i % 2 == 0 ? CLIENT_A : CLIENT_B, DAY_1.plusSeconds(100 - i), "content-" + i));
+		}
+		Path snapshot = dir.resolve("events.bin");
+		new BinarySnapshotCompiler().compile(() -> events, snapshot);
+
+		NotificationEventIndex index = NotificationEventIndex.build(MappedBinaryEventSource.open(snapshot));
+
+		List<NotificationEvent> clientA = index.partition(CLIENT_A).orElseThrow().events();
+		assertThat(clientA).hasSize(50);
+		assertThat(clientA).extracting(NotificationEvent::deliveryDate).isSorted();
+		assertThat(index.partition(CLIENT_B).orElseThrow().findById(NotificationEventId.of("EVT-7")))
+				.map(NotificationEvent::content)
+				.contains("content-7");
+	}
+
+	private static NotificationEvent event(String id, ClientId clientId, Instant deliveryDate, String content) {
+		return NotificationEvent.of(
+				NotificationEventId.of(id),
+				clientId,
+				EventType.CREDIT_TRANSFER,
+				content,
+				deliveryDate,
+				DeliveryStatus.COMPLETED
+		);
+	}
+}
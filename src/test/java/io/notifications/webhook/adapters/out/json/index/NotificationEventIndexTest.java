@@ -0,0 +1,65 @@
+package io.notifications.webhook.adapters.out.json.index;
+
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.EventType;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationEventIndexTest {
+
+	private static final ClientId CLIENT = ClientId.of("client_a");
+
+	@Test
+	void reloadReusesPartitionWhenRowsAreUnchanged() {
+		NotificationEventIndex previous = NotificationEventIndex.build(List.of(event("EVT-1", "Aa"), event("EVT-2", "x")));
+
+		NotificationEventIndex reloaded = NotificationEventIndex.build(
+				new ListEventRows(List.of(event("EVT-2", "x"), event("EVT-1", "Aa"))),
+				previous
+		);
+
+		assertThat(reloaded.reusedPartitionCount()).isEqualTo(1);
+		assertThat(reloaded.partition(CLIENT)).containsSame(previous.partition(CLIENT).orElseThrow());
+	}
+
+	@Test
+	void reloadRebuildsPartitionWhenContentChangesButStringHashCodeDoesNot() {
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+		NotificationEventIndex previous = NotificationEventIndex.build(List.of(event("EVT-1", "Aa")));
+
+		NotificationEventIndex reloaded = NotificationEventIndex.build(new ListEventRows(List.of(event("EVT-1", "BB"))), previous);
+
+		assertThat(reloaded.reusedPartitionCount()).isZero();
+		assertThat(reloaded.partition(CLIENT).orElseThrow().findById(NotificationEventId.of("EVT-1")))
+				.map(NotificationEvent::content)
+				.contains("BB");
+	}
+
+	@Test
+	void reloadRebuildsPartitionWhenIdChangesButStringHashCodeDoesNot() {
+		NotificationEventIndex previous = NotificationEventIndex.build(List.of(event("EVT-Aa", "x")));
+
+		NotificationEventIndex reloaded = NotificationEventIndex.build(new ListEventRows(List.of(event("EVT-BB", "x"))), previous);
+
+		assertThat(reloaded.reusedPartitionCount()).isZero();
+		assertThat(reloaded.partition(CLIENT).orElseThrow().findById(NotificationEventId.of("EVT-BB"))).isPresent();
+	}
+
+	private static NotificationEvent event(String id, String content) {
+		return NotificationEvent.of(
+				NotificationEventId.of(id),
+				CLIENT,
+				EventType.CREDIT_TRANSFER,
+				content,
+				Instant.parse("2024-01-01T00:00:00Z"),
+				DeliveryStatus.FAILED
+		);
+	}
+}
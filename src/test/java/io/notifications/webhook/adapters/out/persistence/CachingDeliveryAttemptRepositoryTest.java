@@ -0,0 +1,221 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryAttempt;
+import io.notifications.webhook.domain.model.DeliveryAttemptResult;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class CachingDeliveryAttemptRepositoryTest {
+
+	private static final ClientId CLIENT = ClientId.of("CLIENT001");
+	private static final Duration LONG_TTL = Duration.ofHours(1);
+
+	private final RecordingRepository delegate = new RecordingRepository();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void answersRepeatedLookupsFromTheCache() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+		DeliveryAttempt attempt = attempt("EVT001", "corr-1");
+		repository.save(attempt);
+
+		assertThat(lookup(repository, "EVT001", "corr-1")).contains(attempt.attemptedAt());
+		assertThat(lookup(repository, "EVT001", " corr-1 ")).contains(attempt.attemptedAt());
+		assertThat(delegate.lookups).hasValue(0);
+		assertThat(requests("hit")).isEqualTo(2.0);
+	}
+
+	@Test
+	void cachesAttemptsFoundInTheDelegate() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+		delegate.stored = Optional.of(Instant.parse("2024-01-01T00:00:00Z"));
+
+		lookup(repository, "EVT001", "corr-1");
+		lookup(repository, "EVT001", "corr-1");
+
+		assertThat(delegate.lookups).hasValue(1);
+	}
+
+	@Test
+	void doesNotCacheAbsentAttempts() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+
+		assertThat(lookup(repository, "EVT001", "corr-1")).isEmpty();
+		assertThat(lookup(repository, "EVT001", "corr-1")).isEmpty();
+
+		assertThat(delegate.lookups).hasValue(2);
+	}
+
+	@Test
+	void goesBackToTheDelegateOnceAnEntryHasExpired() {
+		CachingDeliveryAttemptRepository repository = repository(100, Duration.ofMillis(50));
+		repository.save(attempt("EVT001", "corr-1"));
+		assertThat(lookup(repository, "EVT001", "corr-1")).isPresent();
+		assertThat(delegate.lookups).hasValue(0);
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> {
+			lookup(repository, "EVT001", "corr-1");
+			return delegate.lookups.get() > 0;
+		});
+		assertThat(requests("miss")).isGreaterThanOrEqualTo(1.0);
+	}
+
+	@Test
+	void evictsDownToNinetyPercentOfMaxEntries() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+		for (int i = 0; i < 100; i++) {
+			repository.save(attempt("EVT" + i, "corr"));
+		}
+		assertThat(entries()).isEqualTo(100.0);
+
+		repository.save(attempt("EVT100", "corr"));
+
+		assertThat(entries()).isEqualTo(90.0);
+	}
+
+	@Test
+	void evictsExpiredEntriesFirst() throws InterruptedException {
+		CachingDeliveryAttemptRepository repository = repository(10, Duration.ofMillis(50));
+		for (int i = 0; i < 10; i++) {
+			repository.save(attempt("EVT" + i, "corr"));
+		}
+		Thread.sleep(100);
+
+		DeliveryAttempt fresh = attempt("EVT10", "corr");
+		repository.save(fresh);
+
+		assertThat(entries()).isEqualTo(1.0);
+		assertThat(lookup(repository, "EVT10", "corr")).contains(fresh.attemptedAt());
+		assertThat(delegate.lookups).hasValue(0);
+	}
+
+	@Test
+	void forgetsAnAttemptWhoseSaveFailed() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+		delegate.failSaves = true;
+
+		assertThatThrownBy(() -> repository.save(attempt("EVT001", "corr-1"))).isInstanceOf(IllegalStateException.class);
+
+		assertThat(lookup(repository, "EVT001", "corr-1")).isEmpty();
+		assertThat(delegate.lookups).hasValue(1);
+		assertThat(entries()).isZero();
+	}
+
+	@Test
+	void forgetsEveryAttemptOfAFailedBatch() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+		delegate.failSaves = true;
+
+		assertThatThrownBy(() -> repository.saveAll(List.of(attempt("EVT001", "corr-1"), attempt("EVT002", "corr-2"))))
+				.isInstanceOf(IllegalStateException.class);
+
+		assertThat(entries()).isZero();
+		assertThat(lookup(repository, "EVT001", "corr-1")).isEmpty();
+		assertThat(lookup(repository, "EVT002", "corr-2")).isEmpty();
+		assertThat(delegate.lookups).hasValue(2);
+	}
+
+	@Test
+	void aFailedSaveOfANewerAttemptFallsBackToTheDelegateForThatKey() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+		Instant savedAt = Instant.parse("2024-01-01T00:00:00Z");
+		repository.save(attempt("EVT001", "corr-1", savedAt));
+		delegate.stored = Optional.of(savedAt);
+		delegate.failSaves = true;
+
+		assertThatThrownBy(() -> repository.save(attempt("EVT001", "corr-1", Instant.parse("2024-01-02T00:00:00Z"))))
+				.isInstanceOf(IllegalStateException.class);
+
+		// The failed attempt replaced the cached one before the write, so the lookup asks the delegate again.
+		assertThat(lookup(repository, "EVT001", "corr-1")).contains(savedAt);
+		assertThat(delegate.lookups).hasValue(1);
+	}
+
+	@Test
+	void doesNotCacheAttemptsWithoutACorrelationId() {
+		CachingDeliveryAttemptRepository repository = repository(100, LONG_TTL);
+
+		repository.save(attempt("EVT001", null));
+
+		assertThat(entries()).isZero();
+		assertThat(delegate.saves).hasValue(1);
+	}
+
+	private CachingDeliveryAttemptRepository repository(int maxEntries, Duration ttl) {
+		return new CachingDeliveryAttemptRepository(delegate, maxEntries, ttl, meterRegistry);
+	}
+
+	private static Optional<Instant> lookup(CachingDeliveryAttemptRepository repository, String eventId, String correlationId) {
+		return repository.findReplayAttemptedAt(CLIENT, NotificationEventId.of(eventId), correlationId);
+	}
+
+	private double entries() {
+		return meterRegistry.get("delivery_attempt_idempotency_cache_entries").gauge().value();
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("delivery_attempt_idempotency_cache_requests_total").tag("result", result).counter().count();
+	}
+
+	private static DeliveryAttempt attempt(String eventId, String correlationId) {
+		return attempt(eventId, correlationId, Instant.now());
+	}
+
+	private static DeliveryAttempt attempt(String eventId, String correlationId, Instant attemptedAt) {
+		return DeliveryAttempt.replayAttempt(
+				NotificationEventId.of(eventId),
+				CLIENT,
+				"https://example.test/webhook",
+				DeliveryAttemptResult.SUCCESS,
+				Optional.of(200),
+				Optional.empty(),
+				attemptedAt,
+				5,
+				Optional.ofNullable(correlationId)
+		);
+	}
+
+	private static final class RecordingRepository implements DeliveryAttemptRepository {
+
+		private final AtomicInteger saves = new AtomicInteger();
+		private final AtomicInteger lookups = new AtomicInteger();
+		private volatile boolean failSaves;
+		private volatile Optional<Instant> stored = Optional.empty();
+
+		@Override
+		public void save(DeliveryAttempt attempt) {
+			if (failSaves) {
+				throw new IllegalStateException("database unavailable");
+			}
+			saves.incrementAndGet();
+		}
+
+		@Override
+		public void saveAll(List<DeliveryAttempt> attempts) {
+			if (failSaves) {
+				throw new IllegalStateException("database unavailable");
+			}
+			saves.addAndGet(attempts.size());
+		}
+
+		@Override
+		public Optional<Instant> findReplayAttemptedAt(ClientId clientId, NotificationEventId eventId, String correlationId) {
+			lookups.incrementAndGet();
+			return stored;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpscRingBufferTest {
+
+	@Test
+	void capacityIsRoundedUpToAPowerOfTwo() {
+		assertThat(new MpscRingBuffer<String>(2).capacity()).isEqualTo(2);
+		assertThat(new MpscRingBuffer<String>(5).capacity()).isEqualTo(8);
+		assertThat(new MpscRingBuffer<String>(8).capacity()).isEqualTo(8);
+		assertThat(new MpscRingBuffer<String>(8193).capacity()).isEqualTo(16384);
+		assertThatThrownBy(() -> new MpscRingBuffer<String>(1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void offerFailsOnceTheRoundedCapacityIsReached() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(buffer.offer(i)).isTrue();
+		}
+
+		assertThat(buffer.offer(4)).isFalse();
+		assertThat(buffer.size()).isEqualTo(4);
+	}
+
+	@Test
+	void keepsFifoOrderAcrossWrapAround() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+		List<Integer> drained = new ArrayList<>();
+		int next = 0;
+
+		for (int round = 0; round < 10; round++) {
+			while (buffer.offer(next)) {
+				next++;
+			}
+			buffer.drainTo(drained, 3);
+		}
+		buffer.drainTo(drained, Integer.MAX_VALUE);
+
+		assertThat(drained).hasSize(next);
+		for (int i = 0; i < drained.size(); i++) {
+			assertThat(drained.get(i)).isEqualTo(i);
+		}
+		assertThat(buffer.size()).isZero();
+	}
+
+	@Test
+	void drainToRespectsMaxElements() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+		for (int i = 0; i < 5; i++) {
+			buffer.offer(i);
+		}
+		List<Integer> drained = new ArrayList<>();
+
+		assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+		assertThat(drained).containsExactly(0, 1);
+		assertThat(buffer.size()).isEqualTo(3);
+	}
+
+	@Test
+	void rejectsNullElements() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+
+		assertThatThrownBy(() -> buffer.offer(null)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws InterruptedException {
+		int producers = 4;
+		int perProducer = 50_000;
+		MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			long producer = p;
+			threads.add(Thread.ofPlatform().start(() -> {
+				await(start);
+				for (long sequence = 0; sequence < perProducer; sequence++) {
+					long[] element = {producer, sequence};
+					while (!buffer.offer(element)) {
+						Thread.yield();
+					}
+				}
+			}));
+		}
+
+		long[] nextSequence = new long[producers];
+		List<long[]> batch = new ArrayList<>();
+		int received = 0;
+		int outOfOrder = 0;
+		start.countDown();
+		while (received < producers * perProducer) {
+			batch.clear();
+			if (buffer.drainTo(batch, 256) == 0) {
+				Thread.yield();
+			}
+			for (long[] element : batch) {
+				int producer = (int) element[0];
+				if (element[1] != nextSequence[producer]) {
+					outOfOrder++;
+				}
+				nextSequence[producer] = element[1] + 1;
+			}
+			received += batch.size();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(outOfOrder).isZero();
+		assertThat(nextSequence).containsOnly(perProducer);
+		assertThat(buffer.size()).isZero();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
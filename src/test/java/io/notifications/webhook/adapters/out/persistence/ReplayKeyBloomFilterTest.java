@@ -0,0 +1,81 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplayKeyBloomFilterTest {
+
+	@Test
+	void hasNoFalseNegativesAfterConcurrentAdds() throws Exception {
+		int threads = 8;
+		int keysPerThread = 20_000;
+		ReplayKeyBloomFilter filter = new ReplayKeyBloomFilter((long) threads * keysPerThread, 0.01);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			List<Future<?>> adds = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				adds.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < keysPerThread; i++) {
+						filter.add("CLIENT" + thread, "EVT" + i, "corr-" + i);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> add : adds) {
+				add.get();
+			}
+		}
+
+		for (int t = 0; t < threads; t++) {
+			for (int i = 0; i < keysPerThread; i++) {
+				assertThat(filter.mightContain("CLIENT" + t, "EVT" + i, "corr-" + i)).isTrue();
+			}
+		}
+	}
+
+	@Test
+	void keepsFalsePositivesNearTheConfiguredProbability() {
+		int keys = 50_000;
+		ReplayKeyBloomFilter filter = new ReplayKeyBloomFilter(keys, 0.01);
+		for (int i = 0; i < keys; i++) {
+			filter.add("CLIENT001", "EVT" + i, "corr");
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < keys; i++) {
+			if (filter.mightContain("CLIENT002", "EVT" + i, "corr")) {
+				falsePositives++;
+			}
+		}
+
+		assertThat((double) falsePositives / keys).isLessThan(0.02);
+	}
+
+	@Test
+	void separatesTheKeyParts() {
+		ReplayKeyBloomFilter filter = new ReplayKeyBloomFilter(10, 0.000001);
+		filter.add("ab", "c", "d");
+
+		assertThat(filter.mightContain("ab", "c", "d")).isTrue();
+		assertThat(filter.mightContain("a", "bc", "d")).isFalse();
+	}
+
+	@Test
+	void rejectsInvalidSizing() {
+		assertThatThrownBy(() -> new ReplayKeyBloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new ReplayKeyBloomFilter(10, 1.0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,248 @@
+package io.notifications.webhook.adapters.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryAttempt;
+import io.notifications.webhook.domain.model.DeliveryAttemptResult;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.ports.out.DeliveryAttemptRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class WriteBehindDeliveryAttemptRepositoryTest {
+
+	private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+
+	private final RecordingRepository delegate = new RecordingRepository();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private WriteBehindDeliveryAttemptRepository repository;
+
+	@AfterEach
+	void tearDown() {
+		delegate.unblock();
+		if (repository != null) {
+			repository.close();
+		}
+	}
+
+	@Test
+	void flushesOnceBatchSizeAttemptsAreQueued() {
+		repository = start(64, 10, LONG_INTERVAL);
+
+		for (int i = 0; i < 10; i++) {
+			repository.save(attempt("EVT-" + i, null));
+		}
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> delegate.savedIds().size() == 10);
+		assertThat(delegate.batchSizes).containsExactly(10);
+	}
+
+	@Test
+	void flushesAPartialBatchAfterTheFlushInterval() {
+		repository = start(64, 50, Duration.ofMillis(50));
+
+		for (int i = 0; i < 3; i++) {
+			repository.save(attempt("EVT-" + i, null));
+		}
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> delegate.savedIds().size() == 3);
+	}
+
+	@Test
+	void closeFlushesEverythingStillQueued() {
+		repository = start(64, 50, LONG_INTERVAL);
+		List<DeliveryAttempt> attempts = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			attempts.add(attempt("EVT-" + i, null));
+			repository.save(attempts.getLast());
+		}
+
+		repository.close();
+
+		assertThat(delegate.savedIds()).containsExactlyInAnyOrderElementsOf(ids(attempts));
+	}
+
+	@Test
+	void savesSynchronouslyOnTheCallerWhenTheBufferIsFull() {
+		repository = start(2, 2, LONG_INTERVAL);
+		delegate.block();
+
+		// The writer takes the first two and blocks in saveAll; the next two fill the buffer again.
+		repository.save(attempt("EVT-1", null));
+		repository.save(attempt("EVT-2", null));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> delegate.blockedBatches.get() == 1);
+		repository.save(attempt("EVT-3", null));
+		repository.save(attempt("EVT-4", null));
+
+		DeliveryAttempt overflow = attempt("EVT-5", null);
+		repository.save(overflow);
+
+		assertThat(delegate.singleSaves).containsExactly(overflow.id());
+		assertThat(delegate.singleSaveThreads).containsExactly(Thread.currentThread().getName());
+		assertThat(meterRegistry.get("delivery_attempt_write_behind_overflow_total").counter().count()).isEqualTo(1.0);
+
+		delegate.unblock();
+		repository.close();
+		assertThat(delegate.savedIds()).hasSize(5).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void queuedAttemptsAreVisibleToReplayLookupsUntilWritten() {
+		repository = start(64, 50, LONG_INTERVAL);
+		DeliveryAttempt attempt = attempt("EVT-1", "key-1");
+
+		repository.save(attempt);
+
+		assertThat(repository.findReplayAttemptedAt(attempt.clientId(), attempt.eventId(), " key-1 "))
+				.contains(attempt.attemptedAt());
+		assertThat(delegate.lookups.get()).isZero();
+		assertThat(repository.findReplayAttemptedAt(attempt.clientId(), attempt.eventId(), "key-2")).isEmpty();
+		assertThat(delegate.lookups.get()).isEqualTo(1);
+	}
+
+	@Test
+	void writtenAttemptsAreNoLongerServedFromThePendingMap() {
+		repository = start(64, 1, LONG_INTERVAL);
+		DeliveryAttempt attempt = attempt("EVT-1", "key-1");
+
+		repository.save(attempt);
+		await().atMost(5, TimeUnit.SECONDS).until(() -> delegate.savedIds().size() == 1);
+
+		// The recording delegate never finds anything, so a hit here could only come from a stale entry.
+		await().atMost(5, TimeUnit.SECONDS)
+				.until(() -> repository.findReplayAttemptedAt(attempt.clientId(), attempt.eventId(), "key-1").isEmpty());
+	}
+
+	@Test
+	void attemptsSavedWhileClosingAreWrittenExactlyOnce() throws InterruptedException {
+		repository = start(256, 16, Duration.ofMillis(5));
+		int producers = 4;
+		int perProducer = 5_000;
+		Set<UUID> offered = Collections.synchronizedSet(new HashSet<>());
+		CountDownLatch started = new CountDownLatch(producers);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			int producer = p;
+			threads.add(Thread.ofPlatform().start(() -> {
+				started.countDown();
+				for (int i = 0; i < perProducer; i++) {
+					DeliveryAttempt attempt = attempt("EVT-" + producer + "-" + i, null);
+					repository.save(attempt);
+					offered.add(attempt.id());
+				}
+			}));
+		}
+		started.await();
+		Thread.sleep(5);
+		repository.close();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(delegate.savedIds()).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(offered);
+	}
+
+	private WriteBehindDeliveryAttemptRepository start(int capacity, int batchSize, Duration flushInterval) {
+		WriteBehindDeliveryAttemptRepository started = new WriteBehindDeliveryAttemptRepository(
+				delegate,
+				capacity,
+				batchSize,
+				flushInterval,
+				Duration.ofSeconds(10),
+				meterRegistry
+		);
+		started.start();
+		return started;
+	}
+
+	private static DeliveryAttempt attempt(String eventId, String correlationId) {
+		return DeliveryAttempt.replayAttempt(
+				NotificationEventId.of(eventId),
+				ClientId.of("client_a"),
+				"https://example.test/webhook",
+				DeliveryAttemptResult.SUCCESS,
+				Optional.of(200),
+				Optional.empty(),
+				Instant.now(),
+				5,
+				Optional.ofNullable(correlationId)
+		);
+	}
+
+	private static List<UUID> ids(List<DeliveryAttempt> attempts) {
+		return attempts.stream().map(DeliveryAttempt::id).toList();
+	}
+
+	/*
+	 * Records what reaches the database; saveAll can be held until unblock() to keep the writer busy.
+	 */
+	private static final class RecordingRepository implements DeliveryAttemptRepository {
+
+		private final List<UUID> batched = new CopyOnWriteArrayList<>();
+		private final List<UUID> singleSaves = new CopyOnWriteArrayList<>();
+		private final List<String> singleSaveThreads = new CopyOnWriteArrayList<>();
+		private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		private final AtomicInteger lookups = new AtomicInteger();
+		private final AtomicInteger blockedBatches = new AtomicInteger();
+		private volatile CountDownLatch gate = new CountDownLatch(0);
+
+		void block() {
+			gate = new CountDownLatch(1);
+		}
+
+		void unblock() {
+			gate.countDown();
+		}
+
+		List<UUID> savedIds() {
+			List<UUID> saved = new ArrayList<>(batched);
+			saved.addAll(singleSaves);
+			return saved;
+		}
+
+		@Override
+		public void save(DeliveryAttempt attempt) {
+			singleSaveThreads.add(Thread.currentThread().getName());
+			singleSaves.add(attempt.id());
+		}
+
+		@Override
+		public void saveAll(List<DeliveryAttempt> attempts) {
+			CountDownLatch current = gate;
+			if (current.getCount() > 0) {
+				blockedBatches.incrementAndGet();
+				try {
+					current.await();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			batchSizes.add(attempts.size());
+			attempts.forEach(attempt -> batched.add(attempt.id()));
+		}
+
+		@Override
+		public Optional<Instant> findReplayAttemptedAt(ClientId clientId, NotificationEventId eventId, String correlationId) {
+			lookups.incrementAndGet();
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import io.notifications.webhook.adapters.out.webhook.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+	private static final Duration SLOW_CALL = Duration.ofSeconds(1);
+	private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+	private static final long FAST_NS = Duration.ofMillis(10).toNanos();
+
+	private final AtomicLong now = new AtomicLong();
+	private final List<String> transitions = new ArrayList<>();
+	private final CircuitBreaker breaker = new CircuitBreaker(
+			new CircuitBreaker.Settings(4, 2, 50.0, 50.0, SLOW_CALL, OPEN_DURATION, 2),
+			now::get,
+			(from, to) -> transitions.add(from + "->" + to)
+	);
+
+	@Test
+	void opensOnFailuresAndRejectsUntilTheOpenDurationHasElapsed() {
+		fail();
+		fail();
+
+		assertThat(breaker.state()).isEqualTo(State.OPEN);
+		now.addAndGet(OPEN_DURATION.toNanos() - 1);
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.NO_PERMISSION);
+
+		now.addAndGet(1);
+		assertThat(breaker.tryAcquirePermission()).isNotEqualTo(CircuitBreaker.NO_PERMISSION);
+		assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+	}
+
+	@Test
+	void opensOnSlowCalls() {
+		breaker.onResult(breaker.tryAcquirePermission(), false, SLOW_CALL.toNanos());
+		breaker.onResult(breaker.tryAcquirePermission(), false, SLOW_CALL.toNanos());
+
+		assertThat(breaker.state()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	void closesAfterSuccessfulTrialCallsAndReopensAfterFailedOnes() {
+		openAndWait();
+		long first = breaker.tryAcquirePermission();
+		long second = breaker.tryAcquirePermission();
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.NO_PERMISSION);
+
+		breaker.onResult(first, false, FAST_NS);
+		breaker.onResult(second, false, FAST_NS);
+		assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+		openAndWait();
+		breaker.onResult(breaker.tryAcquirePermission(), true, FAST_NS);
+		breaker.onResult(breaker.tryAcquirePermission(), false, FAST_NS);
+		assertThat(breaker.state()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	void resultsOfCallsPermittedBeforeTheBreakerOpenedAreNotTrialResults() {
+		long stale = breaker.tryAcquirePermission();
+		openAndWait();
+		long first = breaker.tryAcquirePermission();
+		long second = breaker.tryAcquirePermission();
+
+		// Finishes after the breaker went OPEN and HALF_OPEN, e.g. after queueing for a host permit.
+		breaker.onResult(stale, true, SLOW_CALL.toNanos());
+		assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.NO_PERMISSION);
+
+		breaker.onResult(first, false, FAST_NS);
+		assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+		breaker.onResult(second, false, FAST_NS);
+		assertThat(breaker.state()).isEqualTo(State.CLOSED);
+		assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+	}
+
+	@Test
+	void releasingAStalePermissionDoesNotFreeATrialSlot() {
+		long stale = breaker.tryAcquirePermission();
+		openAndWait();
+		long first = breaker.tryAcquirePermission();
+		breaker.tryAcquirePermission();
+
+		breaker.releasePermission(stale);
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.NO_PERMISSION);
+
+		breaker.releasePermission(first);
+		assertThat(breaker.tryAcquirePermission()).isNotEqualTo(CircuitBreaker.NO_PERMISSION);
+	}
+
+	@Test
+	void resultsFromAnEarlierClosedPeriodDoNotCountAfterClosingAgain() {
+		long stale = breaker.tryAcquirePermission();
+		openAndWait();
+		breaker.onResult(breaker.tryAcquirePermission(), false, FAST_NS);
+		breaker.onResult(breaker.tryAcquirePermission(), false, FAST_NS);
+		assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+		breaker.onResult(stale, true, FAST_NS);
+		fail();
+
+		assertThat(breaker.state()).isEqualTo(State.CLOSED);
+	}
+
+	private void fail() {
+		breaker.onResult(breaker.tryAcquirePermission(), true, FAST_NS);
+	}
+
+	private void openAndWait() {
+		fail();
+		fail();
+		assertThat(breaker.state()).isEqualTo(State.OPEN);
+		now.addAndGet(OPEN_DURATION.toNanos());
+	}
+}
@@ -0,0 +1,113 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class HttpClientPoolTest {
+
+	private static final Duration MAX_QUEUE_WAIT = Duration.ofMillis(200);
+
+	private final CountDownLatch releaseResponses = new CountDownLatch(1);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private HttpServer server;
+	private HttpClientPool pool;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/", exchange -> {
+			try {
+				releaseResponses.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.sendResponseHeaders(204, -1);
+			exchange.close();
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		releaseResponses.countDown();
+		if (pool != null) {
+			pool.close();
+		}
+		server.stop(0);
+	}
+
+	@Test
+	void queuedRequestFailsOnceItHasWaitedTooLong() {
+		pool = pool(MAX_QUEUE_WAIT);
+		CompletableFuture<HttpResponse<Void>> inFlight = send();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> gauge("webhook_http_requests_in_flight") == 1.0);
+
+		long queuedAtNs = System.nanoTime();
+		CompletableFuture<HttpResponse<Void>> queued = send();
+
+		assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(HostConcurrencyLimitExceeded.class);
+		assertThat(System.nanoTime() - queuedAtNs).isGreaterThanOrEqualTo(MAX_QUEUE_WAIT.toNanos());
+		assertThat(gauge("webhook_http_requests_queued")).isZero();
+		assertThat(meterRegistry.get("webhook_http_requests_rejected_total").counter().count()).isEqualTo(1.0);
+
+		releaseResponses.countDown();
+		assertThat(inFlight.join().statusCode()).isEqualTo(204);
+		// The expired waiter never took the permit, so the next request gets it.
+		assertThat(send().orTimeout(5, TimeUnit.SECONDS).join().statusCode()).isEqualTo(204);
+	}
+
+	@Test
+	void queuedRequestIsSentWhenAPermitFreesUpInTime() {
+		pool = pool(Duration.ofSeconds(30));
+		CompletableFuture<HttpResponse<Void>> inFlight = send();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> gauge("webhook_http_requests_in_flight") == 1.0);
+		CompletableFuture<HttpResponse<Void>> queued = send();
+		assertThat(gauge("webhook_http_requests_queued")).isEqualTo(1.0);
+
+		releaseResponses.countDown();
+
+		assertThat(inFlight.orTimeout(5, TimeUnit.SECONDS).join().statusCode()).isEqualTo(204);
+		assertThat(queued.orTimeout(5, TimeUnit.SECONDS).join().statusCode()).isEqualTo(204);
+		assertThat(meterRegistry.get("webhook_http_requests_rejected_total").counter().count()).isZero();
+	}
+
+	private HttpClientPool pool(Duration maxQueueWait) {
+		// A limit fixed at one request in flight, so the second request has to queue.
+		return new HttpClientPool(
+				new HttpClientPool.Settings(10, maxQueueWait, Duration.ofMinutes(1), Duration.ofSeconds(2)),
+				new AdaptiveConcurrencyLimit.Settings(1, 1, 1, 2.0, 0.9, 100),
+				meterRegistry
+		);
+	}
+
+	private CompletableFuture<HttpResponse<Void>> send() {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getAddress().getPort() + "/hook"))
+				.POST(HttpRequest.BodyPublishers.noBody())
+				.build();
+		return pool.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).gauge().value();
+	}
+}
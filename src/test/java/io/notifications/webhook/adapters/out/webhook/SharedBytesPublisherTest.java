@@ -0,0 +1,92 @@
+package io.notifications.webhook.adapters.out.webhook;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedBytesPublisherTest {
+
+	@Test
+	void publishesAReadOnlyViewOfTheArrayOnEverySubscription() {
+		byte[] bytes = "{\"id\":\"EVT001\"}".getBytes(StandardCharsets.UTF_8);
+		HttpRequest.BodyPublisher publisher = SharedBytesPublisher.of(bytes);
+
+		List<ByteBuffer> first = collect(publisher);
+		List<ByteBuffer> second = collect(publisher);
+
+		assertThat(publisher.contentLength()).isEqualTo(bytes.length);
+		assertThat(first).hasSize(1);
+		assertThat(second).hasSize(1);
+		assertThat(first.getFirst().isReadOnly()).isTrue();
+		assertThat(first.getFirst().remaining()).isEqualTo(bytes.length);
+		assertThat(second.getFirst().remaining()).isEqualTo(bytes.length);
+
+		// A view, not a copy: a change to the array shows through the published buffer.
+		bytes[0] = '[';
+		assertThat(first.getFirst().get(0)).isEqualTo((byte) '[');
+	}
+
+	@Test
+	void sendsTheSameBodyEachTimeTheRequestIsSent() throws IOException, InterruptedException {
+		List<String> received = new CopyOnWriteArrayList<>();
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", exchange -> {
+			received.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+			exchange.sendResponseHeaders(204, -1);
+			exchange.close();
+		});
+		server.start();
+		try (HttpClient client = HttpClient.newHttpClient()) {
+			String body = "{\"content\":\"" + "x".repeat(100_000) + "\"}";
+			HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getAddress().getPort() + "/hook"))
+					.POST(SharedBytesPublisher.of(body.getBytes(StandardCharsets.UTF_8)))
+					.build();
+
+			client.send(request, HttpResponse.BodyHandlers.discarding());
+			client.send(request, HttpResponse.BodyHandlers.discarding());
+
+			assertThat(received).containsExactly(body, body);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	private static List<ByteBuffer> collect(Flow.Publisher<ByteBuffer> publisher) {
+		List<ByteBuffer> buffers = new CopyOnWriteArrayList<>();
+		publisher.subscribe(new Flow.Subscriber<>() {
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(ByteBuffer item) {
+				buffers.add(item);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				throw new AssertionError(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		});
+		return buffers;
+	}
+}
@@ -0,0 +1,92 @@
+package io.notifications.webhook.adapters.out.webhook.retry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class HashedTimingWheelTest {
+
+	private static final Duration TICK = Duration.ofMillis(10);
+	private static final int WHEEL_SIZE = 8;
+
+	private final Map<String, Long> firedAtNs = new ConcurrentHashMap<>();
+	private final List<String> fireOrder = new CopyOnWriteArrayList<>();
+	private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, WHEEL_SIZE, "test-wheel", task -> {
+		firedAtNs.put(task, System.nanoTime());
+		fireOrder.add(task);
+	});
+
+	@AfterEach
+	void tearDown() {
+		wheel.close();
+	}
+
+	@Test
+	void firesNoEarlierThanTheDeadlineIncludingAfterSeveralRotations() {
+		wheel.start();
+		// One rotation is WHEEL_SIZE * TICK = 80ms.
+		Map<String, Duration> delays = Map.of(
+				"now", Duration.ZERO,
+				"within-rotation", Duration.ofMillis(35),
+				"next-rotation", Duration.ofMillis(120),
+				"third-rotation", Duration.ofMillis(250)
+		);
+		Map<String, Long> scheduledAtNs = new ConcurrentHashMap<>();
+		delays.forEach((task, delay) -> {
+			scheduledAtNs.put(task, System.nanoTime());
+			wheel.schedule(task, delay);
+		});
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> firedAtNs.size() == delays.size());
+
+		delays.forEach((task, delay) ->
+				assertThat(firedAtNs.get(task) - scheduledAtNs.get(task)).isGreaterThanOrEqualTo(delay.toNanos()));
+		assertThat(fireOrder).containsExactly("now", "within-rotation", "next-rotation", "third-rotation");
+		assertThat(wheel.pendingCount()).isZero();
+	}
+
+	@Test
+	void negativeDelaysFireOnTheNextTick() {
+		wheel.start();
+
+		wheel.schedule("late", Duration.ofSeconds(-5));
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> firedAtNs.containsKey("late"));
+	}
+
+	@Test
+	void pendingCountTracksTimeoutsThatHaveNotFired() {
+		wheel.start();
+
+		wheel.schedule("soon", Duration.ofMillis(20));
+		wheel.schedule("later", Duration.ofHours(1));
+		assertThat(wheel.pendingCount()).isEqualTo(2);
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> wheel.pendingCount() == 1);
+		assertThat(fireOrder).containsExactly("soon");
+	}
+
+	@Test
+	void rejectsTimeoutsOnceClosed() {
+		wheel.start();
+		wheel.close();
+
+		assertThatThrownBy(() -> wheel.schedule("task", Duration.ZERO)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void rejectsWheelSizesThatAreNotPowersOfTwo() {
+		assertThatThrownBy(() -> new HashedTimingWheel<String>(TICK, 6, "bad-wheel", task -> {
+		})).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,196 @@
+package io.notifications.webhook.adapters.out.webhook.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.notifications.webhook.adapters.out.persistence.DeliveryRetryJdbcRepository;
+import io.notifications.webhook.adapters.out.persistence.DeliveryRetryJdbcRepository.PendingRetry;
+import io.notifications.webhook.adapters.out.webhook.PersistingWebhookSender;
+import io.notifications.webhook.domain.model.AttemptType;
+import io.notifications.webhook.domain.model.ClientId;
+import io.notifications.webhook.domain.model.DeliveryStatus;
+import io.notifications.webhook.domain.model.EventType;
+import io.notifications.webhook.domain.model.NotificationEvent;
+import io.notifications.webhook.domain.model.NotificationEventId;
+import io.notifications.webhook.domain.model.RetryPolicy;
+import io.notifications.webhook.domain.ports.out.NotificationEventRepository;
+import io.notifications.webhook.domain.ports.out.WebhookSender.DeliveryResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebhookRetrySchedulerTest {
+
+	private static final long WAIT_MS = 5_000;
+	private static final Duration CLAIM_LEASE = Duration.ofMillis(300);
+	private static final Duration SWEEP_INTERVAL = Duration.ofHours(1);
+
+	private static final ClientId CLIENT = ClientId.of("CLIENT001");
+	private static final NotificationEvent EVENT = NotificationEvent.of(
+			NotificationEventId.of("EVT001"),
+			CLIENT,
+			EventType.CREDIT_TRANSFER,
+			"payload",
+			Instant.parse("2024-01-01T00:00:00Z"),
+			DeliveryStatus.FAILED
+	);
+
+	private final PersistingWebhookSender webhookSender = mock(PersistingWebhookSender.class);
+	private final NotificationEventRepository eventRepository = mock(NotificationEventRepository.class);
+	private final DeliveryRetryJdbcRepository retryRepository = mock(DeliveryRetryJdbcRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private WebhookRetryScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		when(eventRepository.findByClientIdAndId(CLIENT, EVENT.id())).thenReturn(Optional.of(EVENT));
+		when(retryRepository.findOverdue(any(), anyInt())).thenReturn(List.of());
+		when(retryRepository.claim(any(), any(), any())).thenReturn(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (scheduler != null) {
+			scheduler.close();
+		}
+	}
+
+	@Test
+	void storesAndDeliversARetryAfterARetryableFailure() {
+		when(webhookSender.send(CLIENT, EVENT, Optional.empty(), AttemptType.RETRY)).thenReturn(success());
+		scheduler = start(SWEEP_INTERVAL);
+
+		scheduler.scheduleAfterFailure(CLIENT, EVENT, Optional.empty(), 1, failure(503));
+
+		ArgumentCaptor<PendingRetry> inserted = ArgumentCaptor.forClass(PendingRetry.class);
+		verify(retryRepository).insert(inserted.capture());
+		assertThat(inserted.getValue().attempt()).isEqualTo(2);
+		verify(retryRepository, timeout(WAIT_MS)).delete(inserted.getValue().id());
+		verify(retryRepository).claim(eq(inserted.getValue()), any(), any());
+		assertThat(counter("succeeded")).isEqualTo(1.0);
+	}
+
+	@Test
+	void doesNotRetryClientErrorsOrExhaustedDeliveries() {
+		scheduler = start(SWEEP_INTERVAL);
+
+		scheduler.scheduleAfterFailure(CLIENT, EVENT, Optional.empty(), 1, failure(400));
+		scheduler.scheduleAfterFailure(CLIENT, EVENT, Optional.empty(), 3, failure(503));
+
+		verify(retryRepository, never()).insert(any());
+		assertThat(counter("dropped")).isEqualTo(1.0);
+		assertThat(counter("exhausted")).isEqualTo(1.0);
+	}
+
+	@Test
+	void skipsARetryClaimedByAnotherNode() {
+		PendingRetry retry = dueRetry();
+		when(retryRepository.claim(eq(retry), any(), any())).thenReturn(false);
+		recover(retry);
+
+		scheduler = start(SWEEP_INTERVAL);
+
+		verify(retryRepository, timeout(WAIT_MS)).claim(eq(retry), any(), any());
+		verify(webhookSender, never()).send(any(), any(), any(), any());
+	}
+
+	@Test
+	void retriesAgainAtLeaseExpiryWhenTheAttemptFailsAfterTheClaim() {
+		PendingRetry retry = dueRetry();
+		List<Long> sentAtNs = new CopyOnWriteArrayList<>();
+		when(webhookSender.send(CLIENT, EVENT, Optional.empty(), AttemptType.RETRY)).thenAnswer(invocation -> {
+			sentAtNs.add(System.nanoTime());
+			if (sentAtNs.size() == 1) {
+				throw new IllegalStateException("connection pool closed");
+			}
+			return success();
+		});
+		recover(retry);
+
+		scheduler = start(SWEEP_INTERVAL);
+
+		verify(retryRepository, timeout(WAIT_MS)).delete(retry.id());
+		assertThat(sentAtNs).hasSize(2);
+		assertThat(sentAtNs.get(1) - sentAtNs.get(0)).isGreaterThanOrEqualTo(CLAIM_LEASE.toNanos() - Duration.ofMillis(50).toNanos());
+
+		ArgumentCaptor<PendingRetry> claimed = ArgumentCaptor.forClass(PendingRetry.class);
+		verify(retryRepository, atLeast(2)).claim(claimed.capture(), any(), any());
+		assertThat(claimed.getAllValues()).extracting(PendingRetry::id).containsOnly(retry.id());
+	}
+
+	@Test
+	void sweepSchedulesRowsOverdueForLongerThanTheSweepInterval() {
+		PendingRetry orphaned = dueRetry();
+		when(webhookSender.send(CLIENT, EVENT, Optional.empty(), AttemptType.RETRY)).thenReturn(success());
+		scheduler = start(SWEEP_INTERVAL);
+		when(retryRepository.findOverdue(any(), anyInt())).thenReturn(List.of(orphaned));
+
+		Instant now = Instant.now();
+		scheduler.sweep(now);
+
+		verify(retryRepository).findOverdue(eq(now.minus(SWEEP_INTERVAL)), anyInt());
+		verify(retryRepository, timeout(WAIT_MS)).delete(orphaned.id());
+	}
+
+	@Test
+	void sweepsPeriodically() {
+		scheduler = start(Duration.ofMillis(50));
+
+		verify(retryRepository, timeout(WAIT_MS).atLeast(2)).findOverdue(any(), anyInt());
+	}
+
+	private WebhookRetryScheduler start(Duration sweepInterval) {
+		WebhookRetryScheduler started = new WebhookRetryScheduler(
+				webhookSender,
+				eventRepository,
+				retryRepository,
+				RetryPolicy.of(Duration.ofMillis(20), 2.0, Duration.ofMillis(100), 3),
+				new WebhookRetryScheduler.Settings(Duration.ofMillis(10), 64, 4, CLAIM_LEASE, sweepInterval),
+				meterRegistry
+		);
+		started.start();
+		return started;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void recover(PendingRetry retry) {
+		when(retryRepository.forEachPending(any())).thenAnswer(invocation -> {
+			invocation.getArgument(0, Consumer.class).accept(retry);
+			return 1L;
+		});
+	}
+
+	private static PendingRetry dueRetry() {
+		return new PendingRetry(UUID.randomUUID(), CLIENT, EVENT.id(), Optional.empty(), 2, Instant.now().minusSeconds(1));
+	}
+
+	private double counter(String outcome) {
+		return meterRegistry.get("webhook_delivery_retries_total").tag("outcome", outcome).counter().count();
+	}
+
+	private static DeliveryResult success() {
+		return DeliveryResult.success(200, Instant.now());
+	}
+
+	private static DeliveryResult failure(int status) {
+		return DeliveryResult.failure(Optional.of(status), "failed", Instant.now());
+	}
+}